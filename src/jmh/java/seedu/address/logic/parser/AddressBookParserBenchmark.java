@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTHLY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PLANTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing of typical user input, from the command word down to the tokenized arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+    private static final Map<String, String> INPUTS = Map.of(
+            "add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 i/75000 m/500 "
+                    + "r/LOW ip/Savings Plan c/POTENTIAL t/friends t/owesMoney",
+            "edit", "edit 1 p/91234567 e/johndoe@example.com t/colleagues",
+            "find", "find n/alice bob charlie r/high low c/potential i/>50000",
+            "sort", "sort income desc",
+            "delete", "delete 3",
+            "aa", "aa 1 d/21-01-2023 14:00 l/NUS");
+
+    @Param({"add", "edit", "find", "sort", "delete", "aa"})
+    private String command;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        input = INPUTS.get(command);
+        arguments = input.substring(input.indexOf(' '));
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_INCOME, PREFIX_MONTHLY, PREFIX_RISKTAG, PREFIX_PLANTAG, PREFIX_CLIENTTAG, PREFIX_TAG);
+    }
+}
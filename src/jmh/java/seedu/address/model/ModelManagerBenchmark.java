@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.ClientTagContainsKeywordsPredicate;
+import seedu.address.model.person.FindPredicate;
+import seedu.address.model.person.IncomeContainsKeywordsPredicate;
+import seedu.address.model.person.MonthlyContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NormalTagContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PlanTagContainsKeywordsPredicate;
+import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures filtering the person list with each kind of {@code FindPredicate}, as done by the find command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    @Param({"name", "phone", "risk", "plan", "client", "tag", "income", "monthly"})
+    private String field;
+
+    private ModelManager model;
+    private List<FindPredicate> predicates;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size, SyntheticDataUtil.DEFAULT_SEED),
+                new UserPrefs(), new CommandHistory());
+        predicates = List.of(createPredicate(field));
+    }
+
+    @Benchmark
+    public int updateFilteredPersonList() {
+        model.updateFilteredPersonList(predicates);
+        return model.getFilteredPersonList().size();
+    }
+
+    private static FindPredicate createPredicate(String field) {
+        switch (field) {
+        case "name":
+            return new NameContainsKeywordsPredicate(List.of("Alex", "Siti"));
+        case "phone":
+            return new PhoneContainsKeywordsPredicate(List.of("91234567"));
+        case "risk":
+            return new RiskTagContainsKeywordsPredicate(List.of("HIGH"));
+        case "plan":
+            return new PlanTagContainsKeywordsPredicate(List.of("Savings Plan", "Health Plan"));
+        case "client":
+            return new ClientTagContainsKeywordsPredicate(List.of("POTENTIAL"));
+        case "tag":
+            return new NormalTagContainsKeywordsPredicate(List.of("friends"));
+        case "income":
+            return new IncomeContainsKeywordsPredicate(List.of("250000"), ">");
+        case "monthly":
+            return new MonthlyContainsKeywordsPredicate(List.of("1000"), "<");
+        default:
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+}
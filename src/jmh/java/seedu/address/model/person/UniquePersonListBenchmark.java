@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.sort.SortByAppointment;
+import seedu.address.logic.parser.sort.SortByClientTag;
+import seedu.address.logic.parser.sort.SortByIncome;
+import seedu.address.logic.parser.sort.SortByMonthly;
+import seedu.address.logic.parser.sort.SortByName;
+import seedu.address.logic.parser.sort.SortByRiskTag;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures sorting the person list with each comparator used by the sort command.
+ * The list is shuffled again before every sort, so small sizes include some of the shuffling overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    @Param({"name", "appt", "income", "monthly", "risk", "client"})
+    private String sortBy;
+
+    private final Random random = new Random(SyntheticDataUtil.DEFAULT_SEED);
+    private final UniquePersonList persons = new UniquePersonList();
+    private List<Person> unsorted;
+    private Comparator<Person> comparator;
+
+    @Setup
+    public void setUp() {
+        unsorted = new ArrayList<>(new SyntheticDataUtil(SyntheticDataUtil.DEFAULT_SEED).getPersons(size));
+        comparator = createComparator(sortBy);
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        Collections.shuffle(unsorted, random);
+        persons.setPersons(unsorted);
+    }
+
+    @Benchmark
+    public UniquePersonList sortPersons() {
+        persons.sortPersons(comparator);
+        return persons;
+    }
+
+    private static Comparator<Person> createComparator(String sortBy) {
+        switch (sortBy) {
+        case "name":
+            return new SortByName("asc");
+        case "appt":
+            return new SortByAppointment("asc");
+        case "income":
+            return new SortByIncome("asc");
+        case "monthly":
+            return new SortByMonthly("asc");
+        case "risk":
+            return new SortByRiskTag("asc");
+        case "client":
+            return new SortByClientTag("asc");
+        default:
+            throw new IllegalArgumentException("Unknown comparator: " + sortBy);
+        }
+    }
+}
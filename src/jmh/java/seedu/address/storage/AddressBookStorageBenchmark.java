@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures saving and loading the address book in each storage format.
+ * Loading is the bulk of the application's startup time, and {@code json-sequential} shows the effect of
+ * converting persons in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    @Param({"json", "json-sequential", "binary"})
+    private String format;
+
+    private Path folder;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("addressbook-benchmark");
+        Path jsonFilePath = folder.resolve("addressbook.json");
+        switch (format) {
+        case "json":
+            storage = new JsonAddressBookStorage(jsonFilePath);
+            break;
+        case "json-sequential":
+            storage = new JsonAddressBookStorage(jsonFilePath, false);
+            break;
+        case "binary":
+            storage = new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath),
+                    jsonFilePath);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        addressBook = SyntheticDataUtil.getAddressBook(size, SyntheticDataUtil.DEFAULT_SEED);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.ui;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.calendar.CalendarEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.ui.calendar.AppointmentHBox;
+import seedu.address.ui.calendar.EventButton;
+
+/**
+ * Measures creating the UiParts that are created the most often, each of which loads an FXML file.
+ * Runs headless on the Monocle glass platform.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw",
+    "-Djava.awt.headless=true"})
+public class UiPartBenchmark {
+    @Param({"personCard", "appointmentHBox", "eventButton"})
+    private String part;
+
+    private Person person;
+    private Appointment appointment;
+    private Stage stage;
+
+    @Setup
+    public void setUp() throws Exception {
+        Platform.startup(() -> { });
+        Platform.setImplicitExit(false);
+        // a person with appointments, as the person cards of those show them
+        person = SyntheticDataUtil.getAddressBook(100, SyntheticDataUtil.DEFAULT_SEED).getPersonList().stream()
+                .filter(candidate -> !candidate.getAppointments().isEmpty())
+                .findFirst().get();
+        appointment = person.getAppointments().get(0);
+        runOnFxThread(() -> stage = new Stage());
+    }
+
+    @TearDown
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    @Benchmark
+    public Object create() throws Exception {
+        FutureTask<Object> task = new FutureTask<>(this::createPart);
+        Platform.runLater(task);
+        return task.get();
+    }
+
+    private Object createPart() {
+        switch (part) {
+        case "personCard":
+            return new PersonCard(person, 1, null).getRoot();
+        case "appointmentHBox":
+            return new AppointmentHBox(1, appointment).getRoot();
+        case "eventButton":
+            EventButton eventButton = new EventButton(stage);
+            eventButton.setCalendarEvent(new CalendarEvent(person.getName(), appointment));
+            return eventButton.getRoot();
+        default:
+            throw new IllegalArgumentException("Unknown part: " + part);
+        }
+    }
+
+    private static void runOnFxThread(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+}
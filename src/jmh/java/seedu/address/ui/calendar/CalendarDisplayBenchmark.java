@@ -0,0 +1,91 @@
+package seedu.address.ui.calendar;
+
+import java.time.YearMonth;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures flipping the Calendar to the next or previous month, as done with the N and B keys, on a calendar of
+ * the appointments of a synthetic address book. Runs headless on the Monocle glass platform.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw",
+    "-Djava.awt.headless=true"})
+public class CalendarDisplayBenchmark {
+    /** The first month with synthetic appointments, which fall in the twelve months from it. */
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2023, 1);
+    private static final int MONTHS_FLIPPED = 11;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private CalendarDisplay calendarDisplay;
+    private int flips;
+
+    @Setup
+    public void setUp() throws Exception {
+        Platform.startup(() -> { });
+        Platform.setImplicitExit(false);
+        ModelManager model = new ModelManager(SyntheticDataUtil.getAddressBook(size, SyntheticDataUtil.DEFAULT_SEED),
+                new UserPrefs(), new CommandHistory());
+        LogicManager logic = new LogicManager(model, null);
+        runOnFxThread(() -> {
+            calendarDisplay = new CalendarDisplay(logic, new Stage());
+            // the calendar starts at the current month
+            for (YearMonth month = YearMonth.now(); month.isAfter(FIRST_MONTH); month = month.minusMonths(1)) {
+                flip(KeyCode.B);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    /**
+     * Flips forwards through the months with appointments, then backwards, and so on.
+     */
+    @Benchmark
+    public void flipMonth() throws Exception {
+        KeyCode key = flips++ / MONTHS_FLIPPED % 2 == 0 ? KeyCode.N : KeyCode.B;
+        runOnFxThread(() -> flip(key));
+    }
+
+    private void flip(KeyCode key) {
+        calendarDisplay.handleKeyPressed(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", key, false, false, false, false));
+    }
+
+    private static void runOnFxThread(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFileFormat;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -26,13 +27,16 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -61,7 +65,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(initAddressBookStorage(userPrefs));
         CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(config.getCommandHistoryFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
 
@@ -74,6 +78,27 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the file format and location in {@code userPrefs}.
+     * Data saved in the binary format after the json file is converted back to json, when the format is json.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFileFormat() == AddressBookFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath), filePath);
+        }
+        AddressBookStorage jsonStorage = userPrefs.isAddressBookJournalEnabled()
+                ? new JournalAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+        try {
+            BinaryAddressBookStorage.exportToJsonIfNewer(jsonStorage);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert the binary data file to json, reading the json data file as it is: "
+                    + e);
+        }
+        return jsonStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -193,5 +218,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,80 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Command line entry point that writes a synthetic address book of any size, for load testing.
+ *
+ * Usage: {@code SyntheticDataGenerator NUMBER_OF_PERSONS [--seed SEED] [--output FILE] [--binary]}
+ */
+public class SyntheticDataGenerator {
+    public static final String MESSAGE_USAGE =
+            "Usage: SyntheticDataGenerator NUMBER_OF_PERSONS [--seed SEED] [--output FILE] [--binary]";
+
+    private static final Path DEFAULT_OUTPUT = Paths.get("data", "FAP.json");
+
+    /**
+     * Writes {@code count} persons generated from {@code seed} to {@code storage}.
+     */
+    public static AddressBook writeAddressBook(AddressBookStorage storage, int count, long seed) throws IOException {
+        requireNonNull(storage);
+        AddressBook addressBook = SyntheticDataUtil.getAddressBook(count, seed);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        return addressBook;
+    }
+
+    /**
+     * Parses the command line and writes the requested address book.
+     */
+    public static void main(String[] args) throws IOException {
+        int count;
+        long seed = SyntheticDataUtil.DEFAULT_SEED;
+        Path output = DEFAULT_OUTPUT;
+        boolean isBinary = false;
+        try {
+            if (args.length == 0) {
+                throw new IllegalArgumentException("Missing number of persons.");
+            }
+            count = Integer.parseInt(args[0]);
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--binary":
+                    isBinary = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        AddressBookStorage storage = isBinary
+                ? new BinaryAddressBookStorage(output, output)
+                : new JsonAddressBookStorage(output);
+        long startTime = System.nanoTime();
+        writeAddressBook(storage, count, seed);
+        System.out.printf("Wrote %d persons to %s in %d ms%n", count, output,
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+}
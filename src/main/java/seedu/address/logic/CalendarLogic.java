@@ -4,22 +4,24 @@ import static javafx.scene.paint.Color.WHITE;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import seedu.address.model.appointment.Date;
 import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.model.calendar.CalendarMonth;
 import seedu.address.ui.calendar.CalendarDisplay;
-import seedu.address.ui.calendar.CalendarEventListPanel;
 
 //@@author wongyewjon
 //Solution below adapted from http://www.java2s.com/ref/java/javafx-gridpane-layout-calendar.html
@@ -77,36 +79,35 @@ public class CalendarLogic {
 
     //@@author wongyewjon
     /**
-     * Fills body of the Calendar with the individual date components.
+     * Fills the header row of the Calendar with the days of the week.
      */
-    public void drawBody() {
-        // Draw days of the week
+    public void drawDayNames() {
         for (int day = 1; day <= 7; day++) {
             Text tDayName = new Text(" " + getDayName(day));
             tDayName.setFill(WHITE);
             calendarDisplay.addToCalendarGrid(tDayName, day - 1, 0);
         }
+    }
 
-        // Draw days in month
-        int currentDay = currentMonth.get(Calendar.DAY_OF_MONTH);
+    //@@author wongyewjon
+    /**
+     * Fills body of the Calendar with the individual date components.
+     * Only the day cells whose day or CalendarEvents changed are redrawn.
+     */
+    public void drawBody() {
         int daysInMonth = currentMonth.getActualMaximum(Calendar.DAY_OF_MONTH);
-        int dayOfWeek = currentMonth.get(Calendar.DAY_OF_WEEK);
-        int row = 1;
-        for (int i = currentDay; i <= daysInMonth; i++) {
-            if (dayOfWeek == 8) {
-                dayOfWeek = 1;
-                row++;
+        // the first of the month is in the first row, in the column of its day of the week
+        int firstDayCell = currentMonth.get(Calendar.DAY_OF_WEEK) - 1;
+        YearMonth yearMonth = YearMonth.of(currentMonth.get(Calendar.YEAR), currentMonth.get(Calendar.MONTH) + 1);
+        Map<LocalDate, List<CalendarEvent>> calendarEventsInMonth = calendarMonth.getCalendarEventsInMonth(yearMonth);
+        for (int cellIndex = 0; cellIndex < CalendarDisplay.DAY_CELL_COUNT; cellIndex++) {
+            int currentDay = cellIndex - firstDayCell + 1;
+            if (currentDay < 1 || currentDay > daysInMonth) {
+                calendarDisplay.clearDay(cellIndex);
+                continue;
             }
-            ObservableList<CalendarEvent> calendarEventsInDayOfMonth = calendarMonth
-                    .getCalendarEventInDayOfMonth(currentDay, currentMonth.get(Calendar.MONTH) + 1,
-                            currentMonth.get(Calendar.YEAR));
-
-            CalendarEventListPanel calendarEventListPanel = new CalendarEventListPanel(calendarEventsInDayOfMonth,
-                    primaryStage);
-            VBox calendarEventList = calendarEventListPanel.getCalendarEventList(currentDay);
-            calendarDisplay.addToCalendarGrid(calendarEventList, dayOfWeek - 1, row);
-            currentDay++;
-            dayOfWeek++;
+            calendarDisplay.showDay(cellIndex, currentDay,
+                    calendarEventsInMonth.getOrDefault(yearMonth.atDay(currentDay), Collections.emptyList()));
         }
     }
 
@@ -138,9 +139,8 @@ public class CalendarLogic {
      * Refreshes the CalendarEvents.
      */
     public void refresh() {
-        calendarDisplay.resetGridPane();
         this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
-        calendarDisplay.drawCalendar();
+        drawBody();
     }
 
     //@@author wongyewjon
@@ -148,7 +148,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents in the previous month.
      */
     public void previous() {
-        this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
         currentMonth = getPreviousMonth(currentMonth);
         calendarDisplay.setTextValidation(EMPTY_MESSAGE);
         updateCalendarMonth();
@@ -159,7 +158,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents in the next month.
      */
     public void next() {
-        this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
         currentMonth = getNextMonth(currentMonth);
         calendarDisplay.setTextValidation(EMPTY_MESSAGE);
         updateCalendarMonth();
@@ -170,7 +168,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents given by the user input.
      */
     public void jump() {
-        this.calendarMonth = new CalendarMonth(logic.getFilteredCalendarEventList());
         currentMonth = getJumpMonth(currentMonth);
         updateCalendarMonth();
     }
@@ -205,7 +202,6 @@ public class CalendarLogic {
         Text newMonthHeader = getTextHeader();
         calendarDisplay.setTopCalendarHeader(0, newMonthHeader);
         calendarDisplay.resetMargin(newMonthHeader);
-        calendarDisplay.resetCalendarBody();
         drawBody();
     }
 
@@ -52,6 +52,11 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the number of times saving the address book was skipped because it had not changed.
+     */
+    long getAvoidedWriteCount();
+
     String getPrevInCommandHistory();
     String getNextInCommandHistory();
 }
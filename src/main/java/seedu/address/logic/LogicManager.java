@@ -28,6 +28,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedModificationCount;
+    private long avoidedWriteCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,6 +38,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -46,22 +49,64 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        model.addToCommandHistory(commandText.trim());
-        try {
-            storage.saveCommandHistory(model.getCommandHistory());
-        } catch (IOException e) {
-            logger.warning("Unable to save commandHistory");
+        if (model.addToCommandHistory(commandText.trim())) {
+            try {
+                storage.saveCommandHistory(model.getCommandHistory());
+            } catch (IOException e) {
+                logger.warning("Unable to save commandHistory");
+            }
+        }
+
+        if (commandResult.isExit()) {
+            return saveBeforeExit(commandResult);
         }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBookIfModified();
+            // saves are written in the background, so one may have failed after the last command that saved
+            storage.checkAddressBookSaved();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
         return commandResult;
     }
 
+    /**
+     * Saves the address book and waits for it to be written out, before {@code exitResult} exits the app.
+     * A failure to save does not keep the app from exiting, and is added to the feedback of the returned result.
+     */
+    private CommandResult saveBeforeExit(CommandResult exitResult) {
+        try {
+            saveAddressBookIfModified();
+            storage.flushAddressBook();
+            return exitResult;
+        } catch (IOException ioe) {
+            logger.warning("Exiting without saving the address book: " + ioe);
+            return new CommandResult(exitResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE + ioe,
+                    exitResult.isShowHelp(), true);
+        }
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since it was last saved or loaded.
+     */
+    private void saveAddressBookIfModified() throws IOException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            avoidedWriteCount++;
+            logger.fine("Address book unchanged, skipped saving (" + avoidedWriteCount + " writes avoided)");
+            return;
+        }
+
+        storage.saveAddressBook(model.getAddressBook());
+        savedModificationCount = modificationCount;
+    }
+
+    @Override
+    public long getAvoidedWriteCount() {
+        return avoidedWriteCount;
+    }
+
     public String getNextInCommandHistory() {
         return model.getNextCommand();
     }
@@ -70,8 +70,8 @@ public class AddAppointmentCommand extends Command {
         }
 
         appointmentSet.add(appointment);
+        model.updateAppointments(personWithAppointmentToAdd);
 
-        model.updateCalendarEventList();
         return new CommandResult(String.format(MESSAGE_SUCCESS, appointment));
     }
 
@@ -70,8 +70,8 @@ public class DeleteAppointmentCommand extends Command {
         } catch (SortedListException e) {
             throw new CommandException(Messages.MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX);
         }
+        model.updateAppointments(personWithAppointmentToDelete);
 
-        model.updateCalendarEventList();
         return new CommandResult(String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS, deletedAppointment));
     }
 
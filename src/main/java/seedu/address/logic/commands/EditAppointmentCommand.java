@@ -64,7 +64,8 @@ public class EditAppointmentCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        MaximumSortedList<Appointment> appointmentSet = getAppointmentSet(model);
+        Person personWithAppointmentToEdit = getPersonWithAppointmentToEdit(model);
+        MaximumSortedList<Appointment> appointmentSet = personWithAppointmentToEdit.getAppointments();
         Appointment appointmentToEdit = getAppointmentToEdit(appointmentSet);
 
         Appointment editedAppointment = editAppointmentDescriptor.createEditedAppointment(appointmentToEdit);
@@ -87,12 +88,12 @@ public class EditAppointmentCommand extends Command {
         }
 
         appointmentSet.add(editedAppointment);
+        model.updateAppointments(personWithAppointmentToEdit);
 
-        model.updateCalendarEventList();
         return new CommandResult(String.format(MESSAGE_EDIT_APPOINTMENT_SUCCESS, appointmentToEdit, editedAppointment));
     }
 
-    private MaximumSortedList<Appointment> getAppointmentSet(Model model) throws CommandException {
+    private Person getPersonWithAppointmentToEdit(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
@@ -100,9 +101,7 @@ public class EditAppointmentCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person personWithAppointmentToEdit = lastShownList.get(personIndex.getZeroBased());
-        MaximumSortedList<Appointment> appointmentSet = personWithAppointmentToEdit.getAppointments();
-        return appointmentSet;
+        return lastShownList.get(personIndex.getZeroBased());
     }
 
     private Appointment getAppointmentToEdit(MaximumSortedList<Appointment> appointmentSet) throws CommandException {
@@ -10,18 +10,22 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKTAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.FindPredicate;
+import seedu.address.model.query.FindQuery;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book who match a find query.
+ * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_KEYWORD = "explain";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds clients who match the find criteria "
             + "and displays them as a list with index numbers.\n"
@@ -31,26 +35,60 @@ public class FindCommand extends Command {
             + PREFIX_CLIENTTAG.getPrefix() + " CLIENT_TYPE [MORE_CLIENT_TYPES]...\n"
             + PREFIX_TAG.getPrefix() + " TAG [MORE_TAGS]...\n"
             + PREFIX_PHONE.getPrefix() + " PHONE [MORE_PHONE]...\n"
-            + PREFIX_INCOME.getPrefix() + " >/</= INCOME \n"
+            + PREFIX_INCOME.getPrefix() + " >/</= INCOME or " + PREFIX_INCOME.getPrefix() + " MIN..MAX\n"
+            + "Criteria can be combined with AND, OR, NOT and parentheses. "
+            + "Start with " + EXPLAIN_KEYWORD + " to show how the find is evaluated.\n"
             + "Examples: " + COMMAND_WORD + " " + PREFIX_NAME.getPrefix() + " alice bob charlie\n"
             + COMMAND_WORD + " " + PREFIX_RISKTAG.getPrefix() + " high low\n"
             + COMMAND_WORD + " " + PREFIX_CLIENTTAG.getPrefix() + " potential\n"
             + COMMAND_WORD + " " + PREFIX_PLANTAG.getPrefix() + " savings plan\n"
             + COMMAND_WORD + " " + PREFIX_PHONE.getPrefix() + " 91234567\n"
-            + COMMAND_WORD + " " + PREFIX_INCOME.getPrefix() + " >1000";
+            + COMMAND_WORD + " " + PREFIX_INCOME.getPrefix() + " >1000\n"
+            + COMMAND_WORD + " " + PREFIX_RISKTAG.getPrefix() + " high AND (" + PREFIX_CLIENTTAG.getPrefix()
+            + " potential OR " + PREFIX_INCOME.getPrefix() + " >100000) AND NOT " + PREFIX_TAG.getPrefix() + " vip";
 
-    private final List<FindPredicate> predicates;
+    public static final String MESSAGE_PLAN = "Plan:\n%1$s\nPlanned in %2$.3f ms, filtered in %3$.3f ms";
 
+    private final FindQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FindCommand to list the persons that match any of {@code predicates}.
+     */
     public FindCommand(List<FindPredicate> predicates) {
-        this.predicates = predicates;
-    };
+        this(FindQuery.anyOf(predicates.stream().map(FindQuery::of).collect(Collectors.toList())), false);
+    }
+
+    /**
+     * Creates a FindCommand to list the persons that match {@code query}, explaining how they were found if
+     * {@code isExplain} is true.
+     */
+    public FindCommand(FindQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicates);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        long startTime = System.nanoTime();
+        QueryPlan plan = model.planFindQuery(query);
+        long plannedTime = System.nanoTime();
+        model.updateFilteredPersonList(List.of(plan.getPredicate()));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getFilteredPersonList().size());
+        long filteredTime = System.nanoTime();
+
+        if (isExplain) {
+            message += "\n" + String.format(MESSAGE_PLAN, plan.explain(), toMillis(plannedTime - startTime),
+                    toMillis(filteredTime - plannedTime));
+        }
+        return new CommandResult(message);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
     }
 
     @Override
@@ -66,6 +104,8 @@ public class FindCommand extends Command {
         }
 
         // state check
-        return this.predicates.equals(((FindCommand) other).predicates);
+        FindCommand otherCommand = (FindCommand) other;
+        return query.equals(otherCommand.query)
+                && isExplain == otherCommand.isExplain;
     }
 }
@@ -15,6 +15,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKTAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,6 +32,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.PlanTagContainsKeywordsPredicate;
 import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
+import seedu.address.model.query.FindQuery;
 import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.PlanTag;
@@ -42,24 +44,54 @@ import seedu.address.model.tag.RiskTag;
 public class FindCommandParser implements Parser<FindCommand> {
     private static final String SPACE_REGEX = "\\s+";
     private static final String PLAN_REGEX = "(?<=plan)";
+    private static final Prefix[] FIND_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_RISKTAG, PREFIX_PLANTAG,
+        PREFIX_CLIENTTAG, PREFIX_TAG, PREFIX_INCOME, PREFIX_MONTHLY};
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Criteria combined with operators or parentheses are parsed as a query, and otherwise any of them may match.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        if (args.trim().isEmpty()) {
+        String trimmedArgs = args.trim();
+        boolean isExplain = false;
+        String[] words = trimmedArgs.split(SPACE_REGEX, 2);
+        if (words[0].equalsIgnoreCase(FindCommand.EXPLAIN_KEYWORD)) {
+            isExplain = true;
+            trimmedArgs = words.length > 1 ? words[1] : "";
+        }
+        if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        List<FindPredicate> predicates = new ArrayList<>();
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
-                        PREFIX_PLANTAG, PREFIX_CLIENTTAG, PREFIX_TAG, PREFIX_INCOME, PREFIX_MONTHLY);
 
-        if (noPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
-                PREFIX_PLANTAG, PREFIX_CLIENTTAG, PREFIX_TAG, PREFIX_INCOME, PREFIX_MONTHLY)
+        FindQuery query = FindQueryParser.isQuery(trimmedArgs)
+                ? new FindQueryParser(Arrays.asList(FIND_PREFIXES), FindCommandParser::parseCriterion)
+                        .parse(trimmedArgs)
+                : FindQuery.anyOf(parseCriteria(" " + trimmedArgs));
+        return new FindCommand(query, isExplain);
+    }
+
+    /**
+     * Parses a single criterion of a find query, such as {@code n/alice bob}.
+     */
+    private static FindQuery parseCriterion(String criterion) throws ParseException {
+        List<FindQuery> criteria = parseCriteria(" " + criterion);
+        if (criteria.size() != 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return criteria.get(0);
+    }
+
+    /**
+     * Parses {@code args} into one criterion for each prefix present.
+     */
+    private static List<FindQuery> parseCriteria(String args) throws ParseException {
+        List<FindQuery> criteria = new ArrayList<>();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, FIND_PREFIXES);
+
+        if (noPrefixesPresent(argMultimap, FIND_PREFIXES)
                 || !argMultimap.getPreamble().isEmpty()
                 || arePrefixesPresent(argMultimap, PREFIX_APPOINTMENT_DATE, PREFIX_APPOINTMENT_LOCATION)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -68,54 +100,79 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             List<Name> names = ParserUtil.parseAllSpaceSeparatedNames(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_NAME, SPACE_REGEX));
-            predicates.add(new NameContainsKeywordsPredicate(names.stream()
-                    .map(x -> x.toString()).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new NameContainsKeywordsPredicate(names.stream()
+                    .map(x -> x.toString()).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_NAME)));
         }
         if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
             List<Phone> phones = ParserUtil.parseAllSpaceSeparatedPhone(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_PHONE, SPACE_REGEX));
-            predicates.add(new PhoneContainsKeywordsPredicate(phones.stream()
-                    .map(x -> x.toString()).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new PhoneContainsKeywordsPredicate(phones.stream()
+                    .map(x -> x.toString()).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_PHONE)));
         }
         if (argMultimap.getValue(PREFIX_RISKTAG).isPresent()) {
             List<RiskTag> riskTags = ParserUtil.parseAllSpaceSeparatedRiskTag(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_RISKTAG, SPACE_REGEX));
-            predicates.add(new RiskTagContainsKeywordsPredicate(riskTags.stream()
-                    .map(x -> x.tagName).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new RiskTagContainsKeywordsPredicate(riskTags.stream()
+                    .map(x -> x.tagName).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_RISKTAG)));
         }
         if (argMultimap.getValue(PREFIX_PLANTAG).isPresent()) {
             List<PlanTag> planTags = ParserUtil.parseAllSpaceSeparatedPlanTags(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_PLANTAG, PLAN_REGEX));
-            predicates.add(new PlanTagContainsKeywordsPredicate(planTags.stream()
-                    .map(x -> x.tagName).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new PlanTagContainsKeywordsPredicate(planTags.stream()
+                    .map(x -> x.tagName).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_PLANTAG)));
         }
         if (argMultimap.getValue(PREFIX_CLIENTTAG).isPresent()) {
             List<ClientTag> clientTags = ParserUtil.parseAllSpaceSeparatedClientTags(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_CLIENTTAG, SPACE_REGEX));
-            predicates.add(new ClientTagContainsKeywordsPredicate(clientTags.stream()
-                    .map(x -> x.tagName).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new ClientTagContainsKeywordsPredicate(clientTags.stream()
+                    .map(x -> x.tagName).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_CLIENTTAG)));
         }
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             List<NormalTag> normalTags = ParserUtil.parseAllSpaceSeparatedNormalTags(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_TAG, SPACE_REGEX));
-            predicates.add(new NormalTagContainsKeywordsPredicate(normalTags.stream()
-                    .map(x -> x.tagName).collect(Collectors.toList())));
+            criteria.add(FindQuery.of(new NormalTagContainsKeywordsPredicate(normalTags.stream()
+                    .map(x -> x.tagName).collect(Collectors.toList())),
+                    describe(argMultimap, PREFIX_TAG)));
         }
         if (argMultimap.getValue(PREFIX_INCOME).isPresent()) {
             List<String> incomeLevels = ParserUtil.parseMonetaryValues(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_INCOME, SPACE_REGEX), PREFIX_INCOME);
-            String equalityPredicate = incomeLevels.get(0).substring(0, 1);
-            incomeLevels.set(0, incomeLevels.get(0).substring(1));
-            predicates.add(new IncomeContainsKeywordsPredicate(incomeLevels, equalityPredicate));
+            String equalityPredicate = getEqualityPredicate(incomeLevels);
+            criteria.add(FindQuery.of(new IncomeContainsKeywordsPredicate(incomeLevels, equalityPredicate),
+                    describe(argMultimap, PREFIX_INCOME)));
         }
         if (argMultimap.getValue(PREFIX_MONTHLY).isPresent()) {
             List<String> monthlySavings = ParserUtil.parseMonetaryValues(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_MONTHLY, SPACE_REGEX), PREFIX_MONTHLY);
-            String equalityPredicate = monthlySavings.get(0).substring(0, 1);
-            monthlySavings.set(0, monthlySavings.get(0).substring(1));
-            predicates.add(new MonthlyContainsKeywordsPredicate(monthlySavings, equalityPredicate));
+            String equalityPredicate = getEqualityPredicate(monthlySavings);
+            criteria.add(FindQuery.of(new MonthlyContainsKeywordsPredicate(monthlySavings, equalityPredicate),
+                    describe(argMultimap, PREFIX_MONTHLY)));
         }
 
-        return new FindCommand(predicates);
+        return criteria;
+    }
+
+    /**
+     * Returns how the criterion for {@code prefix} was written in {@code argMultimap}.
+     */
+    private static String describe(ArgumentMultimap argMultimap, Prefix prefix) {
+        return prefix.getPrefix() + String.join(" ", argMultimap.getAllValues(prefix));
+    }
+
+    /**
+     * Returns how {@code monetaryValues} are compared, removing the comparison character from the first value.
+     */
+    private static String getEqualityPredicate(List<String> monetaryValues) {
+        if (monetaryValues.get(0).contains(FindPredicate.RANGE_SEPARATOR)) {
+            return FindPredicate.RANGE_SEPARATOR;
+        }
+        String equalityPredicate = monetaryValues.get(0).substring(0, 1);
+        monetaryValues.set(0, monetaryValues.get(0).substring(1));
+        return equalityPredicate;
     }
 }
@@ -0,0 +1,170 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.FindQuery;
+
+/**
+ * Parses find queries that combine find criteria with AND, OR, NOT and parentheses, such as
+ * {@code r/high AND (c/potential OR i/>100000) AND NOT t/vip}.
+ *
+ * NOT binds tightest, then AND, then OR. Operators must be written in capitals, so that they are not mistaken for
+ * words in names. Each criterion starts with a prefix and runs until the next operator or parenthesis.
+ */
+public class FindQueryParser {
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String SPACE_REGEX = "\\s+";
+
+    /**
+     * Parses a single find criterion, such as {@code n/alice bob}.
+     */
+    @FunctionalInterface
+    public interface CriterionParser {
+        FindQuery parse(String criterion) throws ParseException;
+    }
+
+    private final List<Prefix> prefixes;
+    private final CriterionParser criterionParser;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a parser for queries of criteria that start with any of {@code prefixes}, each of which is parsed
+     * by {@code criterionParser}.
+     */
+    public FindQueryParser(List<Prefix> prefixes, CriterionParser criterionParser) {
+        this.prefixes = requireNonNull(prefixes);
+        this.criterionParser = requireNonNull(criterionParser);
+    }
+
+    /**
+     * Returns true if {@code args} use any operators or parentheses, and so must be parsed as a query.
+     */
+    public static boolean isQuery(String args) {
+        if (args.contains(OPEN_PARENTHESIS) || args.contains(CLOSE_PARENTHESIS)) {
+            return true;
+        }
+        for (String word : args.trim().split(SPACE_REGEX)) {
+            if (isOperator(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code FindQuery}.
+     * @throws ParseException if {@code args} is not a well formed query, or any of its criteria is invalid.
+     */
+    public FindQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        position = 0;
+        FindQuery query = parseAnyOf();
+        if (position < tokens.size()) {
+            throw invalidQuery();
+        }
+        return query;
+    }
+
+    private FindQuery parseAnyOf() throws ParseException {
+        List<FindQuery> operands = new ArrayList<>();
+        operands.add(parseAllOf());
+        while (consume(OPERATOR_OR)) {
+            operands.add(parseAllOf());
+        }
+        return FindQuery.anyOf(operands);
+    }
+
+    private FindQuery parseAllOf() throws ParseException {
+        List<FindQuery> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (consume(OPERATOR_AND)) {
+            operands.add(parseNot());
+        }
+        return FindQuery.allOf(operands);
+    }
+
+    private FindQuery parseNot() throws ParseException {
+        if (consume(OPERATOR_NOT)) {
+            return FindQuery.not(parseNot());
+        }
+        if (consume(OPEN_PARENTHESIS)) {
+            FindQuery query = parseAnyOf();
+            if (!consume(CLOSE_PARENTHESIS)) {
+                throw invalidQuery();
+            }
+            return query;
+        }
+        if (position >= tokens.size() || isOperator(tokens.get(position)) || isParenthesis(tokens.get(position))) {
+            throw invalidQuery();
+        }
+        return criterionParser.parse(tokens.get(position++));
+    }
+
+    private boolean consume(String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits {@code args} into operators, parentheses and criteria.
+     */
+    private List<String> tokenize(String args) throws ParseException {
+        String spacedArgs = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ").trim();
+        List<String> tokens = new ArrayList<>();
+        StringBuilder criterion = null;
+        for (String word : spacedArgs.split(SPACE_REGEX)) {
+            if (isOperator(word) || isParenthesis(word) || startsWithPrefix(word)) {
+                if (criterion != null) {
+                    tokens.add(criterion.toString());
+                    criterion = null;
+                }
+                if (startsWithPrefix(word)) {
+                    criterion = new StringBuilder(word);
+                } else {
+                    tokens.add(word);
+                }
+            } else if (criterion != null) {
+                criterion.append(' ').append(word);
+            } else {
+                throw invalidQuery();
+            }
+        }
+        if (criterion != null) {
+            tokens.add(criterion.toString());
+        }
+        return tokens;
+    }
+
+    private boolean startsWithPrefix(String word) {
+        return prefixes.stream().anyMatch(prefix -> word.startsWith(prefix.getPrefix()));
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR) || word.equals(OPERATOR_NOT);
+    }
+
+    private static boolean isParenthesis(String word) {
+        return word.equals(OPEN_PARENTHESIS) || word.equals(CLOSE_PARENTHESIS);
+    }
+
+    private static ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTHLY;
 import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -26,6 +27,7 @@ import seedu.address.model.appointment.DateTime;
 import seedu.address.model.appointment.Location;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.FindPredicate;
 import seedu.address.model.person.Income;
 import seedu.address.model.person.Monthly;
 import seedu.address.model.person.Name;
@@ -34,6 +36,7 @@ import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.PlanTag;
 import seedu.address.model.tag.RiskTag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.util.MaximumSortedList;
 
 /**
@@ -42,6 +45,8 @@ import seedu.address.model.util.MaximumSortedList;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RANGE = "Ranges must be given as MIN..MAX, with MIN no more than MAX, "
+            + "and every value must be a range if the first one is.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -296,7 +301,7 @@ public class ParserUtil {
         if (!RiskTag.isValidRiskTagName(trimmedRiskTag)) {
             throw new ParseException(RiskTag.MESSAGE_CONSTRAINTS);
         }
-        return new RiskTag(trimmedRiskTag);
+        return TagRegistry.getRiskTag(trimmedRiskTag);
     }
 
     /**
@@ -309,7 +314,7 @@ public class ParserUtil {
         if (!ClientTag.isValidClientTagName(trimmedClientTag)) {
             throw new ParseException(ClientTag.MESSAGE_CONSTRAINTS);
         }
-        return new ClientTag(trimmedClientTag);
+        return TagRegistry.getClientTag(trimmedClientTag);
     }
 
     /**
@@ -334,7 +339,7 @@ public class ParserUtil {
         if (!PlanTag.isValidPlanTagName(trimmedPlanTag)) {
             throw new ParseException(PlanTag.MESSAGE_CONSTRAINTS);
         }
-        return new PlanTag(trimmedPlanTag);
+        return TagRegistry.getPlanTag(trimmedPlanTag);
     }
 
     /**
@@ -374,7 +379,7 @@ public class ParserUtil {
         if (!NormalTag.isValidNormalTagName(trimmedTag)) {
             throw new ParseException(NormalTag.MESSAGE_CONSTRAINTS);
         }
-        return new NormalTag(trimmedTag);
+        return TagRegistry.getNormalTag(trimmedTag);
     }
 
     /**
@@ -404,28 +409,46 @@ public class ParserUtil {
 
     /**
      * Parses {@code Collection<String> monetaryValues} into a {@code List<String>}.
+     * Either every value is a range written as {@code MIN..MAX}, or the first value starts with a comparison
+     * character that applies to every value.
+     * @throws ParseException if any of the values, or either end of any of the ranges, is invalid.
      */
     public static List<String> parseMonetaryValues(Collection<String> monetaryValues, Prefix prefix)
             throws ParseException {
         requireNonNull(monetaryValues);
         final List<String> moneyList = new ArrayList<>(monetaryValues);
+        boolean isRange = !moneyList.isEmpty() && moneyList.get(0).contains(FindPredicate.RANGE_SEPARATOR);
         for (int i = 0; i < moneyList.size(); i++) {
-            if (i == 0) {
-                if (prefix == PREFIX_INCOME) {
-                    parseIncomeLevel(moneyList.get(i).substring(1));
-                } else if (prefix == PREFIX_MONTHLY) {
-                    parseMonthly(moneyList.get(i).substring(1));
-                }
-
+            if (isRange) {
+                parseMonetaryRange(moneyList.get(i), prefix);
+            } else if (i == 0) {
+                parseMonetaryValue(moneyList.get(i).substring(1), prefix);
             } else {
-                if (prefix == PREFIX_INCOME) {
-                    parseIncomeLevel(moneyList.get(i));
-                } else if (prefix == PREFIX_MONTHLY) {
-                    parseMonthly(moneyList.get(i));
-                }
-
+                parseMonetaryValue(moneyList.get(i), prefix);
             }
         }
         return moneyList;
     }
+
+    private static void parseMonetaryRange(String range, Prefix prefix) throws ParseException {
+        int separator = range.indexOf(FindPredicate.RANGE_SEPARATOR);
+        if (separator == -1) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        String min = range.substring(0, separator);
+        String max = range.substring(separator + FindPredicate.RANGE_SEPARATOR.length());
+        parseMonetaryValue(min, prefix);
+        parseMonetaryValue(max, prefix);
+        if (new BigInteger(min).compareTo(new BigInteger(max)) > 0) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+    }
+
+    private static void parseMonetaryValue(String value, Prefix prefix) throws ParseException {
+        if (prefix == PREFIX_INCOME) {
+            parseIncomeLevel(value);
+        } else if (prefix == PREFIX_MONTHLY) {
+            parseMonthly(value);
+        }
+    }
 }
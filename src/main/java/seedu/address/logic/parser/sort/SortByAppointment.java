@@ -31,7 +31,7 @@ public class SortByAppointment implements Comparator<Person> {
         if (p1.getAppointments().isEmpty() && !p2.getAppointments().isEmpty()) {
             return 1;
         } else if (p2.getAppointments().isEmpty() && !p1.getAppointments().isEmpty()) {
-            return 0;
+            return -1;
         } else if (p1.getAppointments().isEmpty() && p2.getAppointments().isEmpty()) {
             return 0;
         } else {
@@ -23,10 +23,10 @@ public class SortByClientTag implements Comparator<Person> {
     public int compare(Person p1, Person p2) {
 
         if (this.order.equals("desc")) {
-            return p2.getClientTag().getType() - p1.getClientTag().getType();
+            return p2.getClientTag().getClientType().compareTo(p1.getClientTag().getClientType());
         }
 
-        return p1.getClientTag().getType() - p2.getClientTag().getType();
+        return p1.getClientTag().getClientType().compareTo(p2.getClientTag().getClientType());
     }
 
     @Override
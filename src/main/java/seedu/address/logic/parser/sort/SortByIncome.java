@@ -21,25 +21,10 @@ public class SortByIncome implements Comparator<Person> {
 
     @Override
     public int compare(Person p1, Person p2) {
-
-        //Since income is Long, have to manually check and return an int
-
         if (this.order.equals("desc")) {
-            if (p2.getIncome().convertIncomeToLong() > p1.getIncome().convertIncomeToLong()) {
-                return 1;
-            } else if (p2.getIncome().convertIncomeToLong() < p1.getIncome().convertIncomeToLong()) {
-                return -1;
-            }
-            return 0;
+            return Long.compare(p2.getIncome().value, p1.getIncome().value);
         }
-
-        if (p1.getIncome().convertIncomeToLong() > p2.getIncome().convertIncomeToLong()) {
-            return 1;
-        } else if (p1.getIncome().convertIncomeToLong() < p2.getIncome().convertIncomeToLong()) {
-            return -1;
-        }
-
-        return 0;
+        return Long.compare(p1.getIncome().value, p2.getIncome().value);
     }
 
     @Override
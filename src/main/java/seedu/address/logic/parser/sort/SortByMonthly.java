@@ -23,10 +23,10 @@ public class SortByMonthly implements Comparator<Person> {
     public int compare(Person p1, Person p2) {
 
         if (this.order.equals("desc")) {
-            return (int) (p2.getMonthly().convertMonthlyToLong() - p1.getMonthly().convertMonthlyToLong());
+            return Long.compare(p2.getMonthly().value, p1.getMonthly().value);
         }
 
-        return (int) (p1.getMonthly().convertMonthlyToLong() - p2.getMonthly().convertMonthlyToLong());
+        return Long.compare(p1.getMonthly().value, p2.getMonthly().value);
     }
 
     @Override
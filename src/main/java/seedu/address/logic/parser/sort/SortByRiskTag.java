@@ -23,10 +23,10 @@ public class SortByRiskTag implements Comparator<Person> {
     public int compare(Person p1, Person p2) {
 
         if (this.order.equals("desc")) {
-            return p2.getRiskTag().getRisk() - p1.getRiskTag().getRisk();
+            return p2.getRiskTag().getRiskLevel().compareTo(p1.getRiskTag().getRiskLevel());
         }
 
-        return p1.getRiskTag().getRisk() - p2.getRiskTag().getRisk();
+        return p1.getRiskTag().getRiskLevel().compareTo(p2.getRiskTag().getRiskLevel());
     }
 
     @Override
@@ -7,7 +7,9 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.DateTime;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -67,6 +69,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(appointment);
         return persons.containsPersonWithSameAppointmentDateTime(appointment);
     }
+
+    /**
+     * Returns the persons with an appointment between {@code start} and {@code end} inclusive,
+     * in order of appointment date time.
+     */
+    public List<Person> getPersonsWithAppointmentBetween(DateTime start, DateTime end) {
+        return persons.getPersonsWithAppointmentBetween(start, end);
+    }
+
+    /**
+     * Returns the indexes of the fields searched by find, over the persons in the address book.
+     */
+    public PersonIndexes getPersonIndexes() {
+        return persons.getIndexes();
+    }
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -94,6 +112,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Reports that the appointments of {@code person} have been changed in place.
+     * {@code person} must exist in the address book.
+     */
+    public void updateAppointments(Person person) {
+        persons.updateAppointments(person);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -105,6 +131,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortPersons(Comparator<Person> comparator) {
         persons.sortPersons(comparator);
     }
+
+    /**
+     * Returns the number of modifications made to this {@code AddressBook} so far.
+     * The data has not changed between two calls that return the same count.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
     //// util methods
 
     @Override
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The file formats the address book can be saved in.
+ */
+public enum AddressBookFileFormat {
+    /** Human-readable json, optionally with a journal of recent changes. */
+    JSON,
+    /** Compact binary snapshot, kept next to the json file. */
+    BINARY
+}
@@ -43,8 +43,9 @@ public class CommandHistory implements ReadOnlyCommandHistory {
     /**
      * Add latest valid command entered by user to CommandHistory
      * @param commandInput latest valid command entered bu user
+     * @return true if the command history changed, i.e. {@code commandInput} is not a consecutive duplicate
      */
-    public void addToCommandHistory(String commandInput) {
+    public boolean addToCommandHistory(String commandInput) {
         int size = commandHistoryList.size();
         int latestIndex = size - 1;
 
@@ -52,13 +53,14 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         if (!commandHistoryList.isEmpty()
                 && commandHistoryList.get(latestIndex).equals(commandInput)) {
             resetCurrentIndexToBeyondMaxIndex();
-            return;
+            return false;
         }
         if (size >= MAX_COMMAND_HISTORY_SIZE) {
             commandHistoryList.remove(0);
         }
         commandHistoryList.add(commandInput);
         resetCurrentIndexToBeyondMaxIndex();
+        return true;
     }
 
     /**
@@ -10,6 +10,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindQuery;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -56,6 +58,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * The address book does not need to be saved again while this count is unchanged.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -75,6 +83,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Reports that the appointments of the given person have been added to, edited or removed in place.
+     * {@code person} must exist in the address book.
+     */
+    void updateAppointments(Person person);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -93,18 +107,30 @@ public interface Model {
 
     void updateFilteredPersonList(List<? extends Predicate<Person>> predicates);
 
+    /**
+     * Returns the plan for evaluating {@code query} over the persons in the address book.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planFindQuery(FindQuery query);
+
     void sortPerson(Comparator<Person> comparator);
 
+    /**
+     * Returns the calendar events of the persons in the filtered person list.
+     * The list follows changes to those persons and their appointments.
+     */
     ObservableList<CalendarEvent> getFilteredCalendarEventList();
 
 
     ReadOnlyCommandHistory getCommandHistory();
 
-    void addToCommandHistory(String commandInput);
+    /**
+     * Adds {@code commandInput} to the command history.
+     * Returns true if the command history changed as a result.
+     */
+    boolean addToCommandHistory(String commandInput);
 
     String getNextCommand();
 
     String getPrevCommand();
-
-    void updateCalendarEventList();
 }
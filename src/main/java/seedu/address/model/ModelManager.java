@@ -4,21 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.calendar.CalendarEvent;
+import seedu.address.model.calendar.CalendarEventList;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.SamePersonPredicate;
+import seedu.address.model.query.FindQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,6 +33,9 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final CommandHistory commandHistory;
     private final ObservableList<CalendarEvent> calendarEventList;
+    /** The predicates of each find that narrowed down the shown persons since the filter was last set. */
+    private final List<List<Predicate<Person>>> findLevels = new ArrayList<>();
+    private Predicate<? super Person> basePredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -45,7 +50,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.commandHistory = new CommandHistory(commandHistory);
-        this.calendarEventList = FXCollections.observableArrayList();
+        this.calendarEventList = new CalendarEventList(filteredPersons);
     }
 
     public ModelManager() {
@@ -99,6 +104,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -118,7 +128,13 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void updateAppointments(Person person) {
+        requireNonNull(person);
+
+        addressBook.updateAppointments(person);
     }
 
     @Override
@@ -146,40 +162,53 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        findLevels.clear();
+        basePredicate = predicate;
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Narrows down the currently shown persons to those that match any of {@code predicates}.
+     * Each person is tested in a single pass, stopping at the first predicate it matches.
+     * Find predicates are answered from the address book's indexes where possible.
+     */
     @Override
     public void updateFilteredPersonList(List<? extends Predicate<Person>> predicates) {
         requireNonNull(predicates);
-        int size = predicates.size();
-        HashSet<Person> newPersons = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            ObservableList<Person> test = FXCollections.observableArrayList();
-            filteredPersons.forEach(test::add);
-            FilteredList<? extends Person> filteredPersonsCopy = new FilteredList<>(test);
-            filteredPersonsCopy.setPredicate(predicates.get(i));
-            filteredPersonsCopy.stream().forEach(newPersons::add);
+        findLevels.add(addressBook.getPersonIndexes().usingIndexes(predicates));
+        filteredPersons.setPredicate(person -> isShown(person));
+    }
+
+    private boolean isShown(Person person) {
+        if (basePredicate != null && !basePredicate.test(person)) {
+            return false;
         }
-        filteredPersons.setPredicate(new SamePersonPredicate(newPersons));
+        for (List<Predicate<Person>> findLevel : findLevels) {
+            if (!matchesAny(findLevel, person)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
-    public ObservableList<CalendarEvent> getFilteredCalendarEventList() {
-        ObservableList<Person> lastShownList = this.filteredPersons;
-        ObservableList<CalendarEvent> calendarEventList = getCalendarEventList(lastShownList);
-        return calendarEventList;
+    public QueryPlan planFindQuery(FindQuery query) {
+        requireNonNull(query);
+        return QueryPlanner.plan(query, addressBook.getPersonIndexes());
     }
 
-    private ObservableList<CalendarEvent> getCalendarEventList(ObservableList<Person> lastShownList) {
-        calendarEventList.clear();
-        lastShownList.stream().map(x -> x.getCalendarEvents()).forEach(e -> calendarEventList.addAll(e));
-        return calendarEventList;
+    private static boolean matchesAny(List<Predicate<Person>> predicates, Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
-    public void updateCalendarEventList() {
-        getCalendarEventList(filteredPersons);
+    public ObservableList<CalendarEvent> getFilteredCalendarEventList() {
+        return calendarEventList;
     }
 
     //=========== Command History=============================================================
@@ -189,8 +218,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void addToCommandHistory(String validCommandInput) {
-        commandHistory.addToCommandHistory(validCommandInput);
+    public boolean addToCommandHistory(String validCommandInput) {
+        return commandHistory.addToCommandHistory(validCommandInput);
     }
 
     @Override
@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isAddressBookJournalEnabled();
+
+    AddressBookFileFormat getAddressBookFileFormat();
+
 }
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "FAP.json");
+    private boolean addressBookJournalEnabled = false;
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookJournalEnabled(newUserPrefs.isAddressBookJournalEnabled());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +89,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookJournalEnabled == o.addressBookJournalEnabled
+                && addressBookFileFormat == o.addressBookFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookJournalEnabled, addressBookFileFormat);
     }
 
     @Override
@@ -81,6 +104,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data journal enabled : " + addressBookJournalEnabled);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
         return sb.toString();
     }
 
@@ -0,0 +1,128 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the appointments of a group of persons, sorted by {@code DateTime}.
+ * The index does not observe the persons it tracks, so it holds no references from the persons back to itself.
+ * Appointments that are added, edited or removed in place must be reported with {@link #update(Person)},
+ * which reindexes only that person.
+ *
+ * Supports logarithmic lookup of the persons that have an appointment at, or within a range of, a given date time.
+ */
+public class AppointmentIndex {
+    private final NavigableMap<DateTime, List<Person>> ownersByDateTime = new TreeMap<>();
+    /** The date times each tracked person was indexed under, which may differ from its current appointments. */
+    private final Map<Person, List<DateTime>> indexedDateTimes = new IdentityHashMap<>();
+
+    /**
+     * Starts indexing the appointments of {@code person}.
+     * Tracking the same person more than once has no further effect.
+     */
+    public void track(Person person) {
+        requireNonNull(person);
+        if (indexedDateTimes.containsKey(person)) {
+            return;
+        }
+
+        List<DateTime> dateTimes = new ArrayList<>(person.getAppointments().size());
+        person.getAppointments().forEach(appointment -> dateTimes.add(appointment.getDateTime()));
+        indexedDateTimes.put(person, dateTimes);
+        dateTimes.forEach(dateTime -> add(person, dateTime));
+    }
+
+    /**
+     * Stops indexing the appointments of {@code person} and removes them from the index.
+     */
+    public void untrack(Person person) {
+        requireNonNull(person);
+        List<DateTime> dateTimes = indexedDateTimes.remove(person);
+        if (dateTimes == null) {
+            return;
+        }
+
+        dateTimes.forEach(dateTime -> remove(person, dateTime));
+    }
+
+    /**
+     * Reindexes the appointments of the tracked {@code person}, which have been changed in place.
+     */
+    public void update(Person person) {
+        requireNonNull(person);
+        if (!indexedDateTimes.containsKey(person)) {
+            return;
+        }
+
+        untrack(person);
+        track(person);
+    }
+
+    /**
+     * Stops indexing the appointments of every tracked person.
+     */
+    public void clear() {
+        ownersByDateTime.clear();
+        indexedDateTimes.clear();
+    }
+
+    /**
+     * Returns true if any tracked person has an appointment at {@code dateTime}.
+     */
+    public boolean contains(DateTime dateTime) {
+        requireNonNull(dateTime);
+        return ownersByDateTime.containsKey(dateTime);
+    }
+
+    /**
+     * Returns the persons with an appointment at {@code dateTime}.
+     */
+    public List<Person> getOwners(DateTime dateTime) {
+        requireNonNull(dateTime);
+        return Collections.unmodifiableList(ownersByDateTime.getOrDefault(dateTime, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the persons with an appointment between {@code start} and {@code end} inclusive,
+     * in order of appointment date time.
+     */
+    public List<Person> getOwnersBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        List<Person> owners = new ArrayList<>();
+        if (start.compareTo(end) > 0) {
+            return owners;
+        }
+        ownersByDateTime.subMap(start, true, end, true).values().forEach(owners::addAll);
+        return owners;
+    }
+
+    private void add(Person owner, DateTime dateTime) {
+        ownersByDateTime.computeIfAbsent(dateTime, unused -> new ArrayList<>(1)).add(owner);
+    }
+
+    private void remove(Person owner, DateTime dateTime) {
+        List<Person> owners = ownersByDateTime.get(dateTime);
+        if (owners == null) {
+            return;
+        }
+        for (int i = 0; i < owners.size(); i++) {
+            if (owners.get(i) == owner) {
+                owners.remove(i);
+                break;
+            }
+        }
+        if (owners.isEmpty()) {
+            ownersByDateTime.remove(dateTime);
+        }
+    }
+}
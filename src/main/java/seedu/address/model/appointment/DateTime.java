@@ -27,6 +27,11 @@ public class DateTime implements Comparable<DateTime> {
         requireNonNull(localDateTime);
         this.localDateTime = localDateTime;
     }
+
+    public LocalDateTime getLocalDateTime() {
+        return localDateTime;
+    }
+
     public Date getDate() {
         return new Date(localDateTime.toLocalDate());
     }
@@ -2,6 +2,7 @@ package seedu.address.model.calendar;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Objects;
 
 import seedu.address.model.appointment.Appointment;
@@ -40,6 +41,10 @@ public class CalendarEvent implements Comparable<CalendarEvent> {
         return appointment.getDate().toString();
     }
 
+    public LocalDate getLocalDate() {
+        return appointment.getDateTime().getLocalDateTime().toLocalDate();
+    }
+
     public int getDay() {
         return this.appointment.getDay();
     }
@@ -0,0 +1,171 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.person.Person;
+
+/**
+ * An observable list of the calendar events of the persons in a source list, grouped by person in the order of
+ * the source list.
+ *
+ * The list follows changes to the source list without being rebuilt: only the calendar events of the persons that
+ * changed are replaced, and calendar events that are the same before and after a change are kept. Each change to
+ * the source list is reported to listeners as a single change. A person whose appointments were changed in place
+ * must be replaced with itself in the source list, as {@code UniquePersonList#updateAppointments(Person)} does.
+ * The source list is observed through a weak listener, like JavaFX's own transformation lists, so it does not keep
+ * this list alive once nothing else refers to it.
+ * The list cannot be modified directly.
+ */
+public class CalendarEventList extends ObservableListBase<CalendarEvent> {
+    private final ObservableList<Person> persons;
+    private final List<CalendarEvent> calendarEvents = new ArrayList<>();
+    /** The number of calendar events of each person in {@code persons}, in the same order. */
+    private final List<Integer> calendarEventCounts = new ArrayList<>();
+    /** Held strongly here, as the source list only holds it weakly. */
+    private final ListChangeListener<Person> personsListener = this::onPersonsChanged;
+
+    /**
+     * Creates a list of the calendar events of {@code persons}, which follows changes to them.
+     */
+    public CalendarEventList(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        for (Person person : persons) {
+            List<CalendarEvent> calendarEventsOfPerson = person.getCalendarEvents();
+            calendarEvents.addAll(calendarEventsOfPerson);
+            calendarEventCounts.add(calendarEventsOfPerson.size());
+        }
+        persons.addListener(new WeakListChangeListener<>(personsListener));
+    }
+
+    @Override
+    public CalendarEvent get(int index) {
+        return calendarEvents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return calendarEvents.size();
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    replace(i, 1, List.of(persons.get(i)));
+                }
+            } else {
+                replace(change.getFrom(), change.getRemovedSize(), change.getAddedSubList());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the position of the first calendar event of the person at {@code position} in {@code persons}.
+     */
+    private int getStartOf(int position) {
+        int start = 0;
+        for (int i = 0; i < position; i++) {
+            start += calendarEventCounts.get(i);
+        }
+        return start;
+    }
+
+    /**
+     * Replaces the calendar events of the {@code removedCount} persons from {@code position} in {@code persons}
+     * with those of {@code addedPersons}, and reports the calendar events that differ.
+     */
+    private void replace(int position, int removedCount, List<? extends Person> addedPersons) {
+        int start = getStartOf(position);
+        int end = start;
+        for (int i = position; i < position + removedCount; i++) {
+            end += calendarEventCounts.get(i);
+        }
+
+        List<Integer> addedCounts = new ArrayList<>(addedPersons.size());
+        List<CalendarEvent> addedCalendarEvents = new ArrayList<>();
+        for (Person person : addedPersons) {
+            List<CalendarEvent> calendarEventsOfPerson = person.getCalendarEvents();
+            addedCalendarEvents.addAll(calendarEventsOfPerson);
+            addedCounts.add(calendarEventsOfPerson.size());
+        }
+        calendarEventCounts.subList(position, position + removedCount).clear();
+        calendarEventCounts.addAll(position, addedCounts);
+
+        // calendar events that are unchanged at either end are left in place
+        int unchangedBefore = 0;
+        while (start + unchangedBefore < end && unchangedBefore < addedCalendarEvents.size()
+                && calendarEvents.get(start + unchangedBefore).equals(addedCalendarEvents.get(unchangedBefore))) {
+            unchangedBefore++;
+        }
+        int unchangedAfter = 0;
+        while (end - unchangedAfter > start + unchangedBefore
+                && addedCalendarEvents.size() - unchangedAfter > unchangedBefore
+                && calendarEvents.get(end - unchangedAfter - 1)
+                        .equals(addedCalendarEvents.get(addedCalendarEvents.size() - unchangedAfter - 1))) {
+            unchangedAfter++;
+        }
+
+        int from = start + unchangedBefore;
+        List<CalendarEvent> removedRange = calendarEvents.subList(from, end - unchangedAfter);
+        List<CalendarEvent> removed = new ArrayList<>(removedRange);
+        removedRange.clear();
+        List<CalendarEvent> added = addedCalendarEvents.subList(unchangedBefore,
+                addedCalendarEvents.size() - unchangedAfter);
+        calendarEvents.addAll(from, added);
+
+        if (!removed.isEmpty() && !added.isEmpty()) {
+            nextReplace(from, from + added.size(), removed);
+        } else if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        } else if (!added.isEmpty()) {
+            nextAdd(from, from + added.size());
+        }
+    }
+
+    /**
+     * Moves the calendar events of the persons reordered by {@code change} along with them.
+     */
+    private void permute(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        int start = getStartOf(from);
+        List<Integer> oldCounts = new ArrayList<>(calendarEventCounts.subList(from, to));
+        for (int i = from; i < to; i++) {
+            calendarEventCounts.set(change.getPermutation(i), oldCounts.get(i - from));
+        }
+
+        int[] newStarts = new int[to - from];
+        int end = start;
+        for (int i = from; i < to; i++) {
+            newStarts[i - from] = end;
+            end += calendarEventCounts.get(i);
+        }
+
+        List<CalendarEvent> oldCalendarEvents = new ArrayList<>(calendarEvents.subList(start, end));
+        int[] permutation = new int[end - start];
+        int oldStart = 0;
+        for (int i = from; i < to; i++) {
+            int newStart = newStarts[change.getPermutation(i) - from];
+            for (int k = 0; k < oldCounts.get(i - from); k++) {
+                calendarEvents.set(newStart + k, oldCalendarEvents.get(oldStart + k));
+                permutation[oldStart + k] = newStart + k;
+            }
+            oldStart += oldCounts.get(i - from);
+        }
+        if (end > start) {
+            nextPermutation(start, end, permutation);
+        }
+    }
+}
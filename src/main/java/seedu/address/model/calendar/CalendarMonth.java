@@ -2,10 +2,15 @@ package seedu.address.model.calendar;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,10 +19,15 @@ import javafx.collections.ObservableList;
 /**
  * Represents a Calendar in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The events are bucketed by date once, when the calendar month is created, so that the events of a day or a
+ * month are found without going through every event. A calendar month must be created again after its events
+ * change.
  */
 public class CalendarMonth {
     // Data fields
     private ObservableList<CalendarEvent> calendarEvents;
+    private final NavigableMap<LocalDate, List<CalendarEvent>> calendarEventsByDate = new TreeMap<>();
 
     /**
      * Every field must be present and not null.
@@ -25,6 +35,12 @@ public class CalendarMonth {
     public CalendarMonth(ObservableList<CalendarEvent> calendarEvents) {
         requireAllNonNull(calendarEvents);
         this.calendarEvents = calendarEvents;
+        for (CalendarEvent calendarEvent : calendarEvents) {
+            calendarEventsByDate.computeIfAbsent(calendarEvent.getLocalDate(), unused -> new ArrayList<>())
+                    .add(calendarEvent);
+        }
+        calendarEventsByDate.replaceAll((date, calendarEventsInDay) -> Collections.unmodifiableList(
+                calendarEventsInDay));
     }
 
     /**
@@ -34,13 +50,28 @@ public class CalendarMonth {
         return calendarEvents;
     }
 
-
+    /**
+     * Returns the CalendarEvents on the given day, in the order they are in the list of CalendarEvents.
+     */
     public ObservableList<CalendarEvent> getCalendarEventInDayOfMonth(Integer day, Integer month, Integer year) {
         requireAllNonNull(day, month, year);
-        List<CalendarEvent> calendarEventInDayOfMonth = new ArrayList<>();
-        Predicate<CalendarEvent> filter = (e) -> e.getDay() == day && e.getMonth() == month && e.getYear() == year;
-        calendarEvents.stream().filter(filter).forEach(calendarEventInDayOfMonth::add);
-        return FXCollections.observableList(calendarEventInDayOfMonth);
+        if (month < 1 || month > 12 || !YearMonth.of(year, month).isValidDay(day)) {
+            return FXCollections.observableArrayList();
+        }
+        List<CalendarEvent> calendarEventsInDay = calendarEventsByDate.get(LocalDate.of(year, month, day));
+        return calendarEventsInDay == null
+                ? FXCollections.observableArrayList()
+                : FXCollections.observableArrayList(calendarEventsInDay);
+    }
+
+    /**
+     * Returns an unmodifiable view of the CalendarEvents in {@code yearMonth}, by date.
+     * Days without any CalendarEvents are left out.
+     */
+    public Map<LocalDate, List<CalendarEvent>> getCalendarEventsInMonth(YearMonth yearMonth) {
+        requireAllNonNull(yearMonth);
+        return Collections.unmodifiableMap(calendarEventsByDate.subMap(yearMonth.atDay(1), true,
+                yearMonth.atEndOfMonth(), true));
     }
 
     /**
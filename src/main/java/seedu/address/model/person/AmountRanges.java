@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * The ranges of whole dollar amounts matched by an income or monthly contribution find.
+ *
+ * Each amount is parsed once, into the range of amounts it matches: {@code >} matches the amount and above,
+ * {@code <} matches the amount and below, {@code =} matches only the amount, and
+ * {@value FindPredicate#RANGE_SEPARATOR} matches amounts written as {@code MIN..MAX}, both ends included.
+ * A person is tested by comparing their amount against the ranges directly, which is as cheap as any index lookup;
+ * the amount histograms are only used to estimate how many persons the ranges match.
+ */
+class AmountRanges {
+    private final long[] mins;
+    private final long[] maxes;
+
+    /**
+     * Creates the ranges matched by {@code amounts} under {@code predicate}.
+     * An unknown {@code predicate} matches no amounts.
+     */
+    AmountRanges(List<String> amounts, String predicate) {
+        int count = isKnownPredicate(predicate) ? amounts.size() : 0;
+        mins = new long[count];
+        maxes = new long[count];
+        for (int i = 0; i < count; i++) {
+            String amount = amounts.get(i);
+            switch (predicate) {
+            case ">":
+                mins[i] = Long.parseLong(amount);
+                maxes[i] = Long.MAX_VALUE;
+                break;
+            case "<":
+                mins[i] = Long.MIN_VALUE;
+                maxes[i] = Long.parseLong(amount);
+                break;
+            case "=":
+                mins[i] = Long.parseLong(amount);
+                maxes[i] = mins[i];
+                break;
+            default:
+                int separator = amount.indexOf(FindPredicate.RANGE_SEPARATOR);
+                mins[i] = Long.parseLong(amount.substring(0, separator));
+                maxes[i] = Long.parseLong(amount.substring(separator + FindPredicate.RANGE_SEPARATOR.length()));
+            }
+        }
+    }
+
+    private static boolean isKnownPredicate(String predicate) {
+        return predicate.equals(">") || predicate.equals("<") || predicate.equals("=")
+                || predicate.equals(FindPredicate.RANGE_SEPARATOR);
+    }
+
+    /**
+     * Returns true if {@code amount} is in any of the ranges.
+     */
+    boolean contains(long amount) {
+        for (int i = 0; i < mins.length; i++) {
+            if (mins[i] <= amount && amount <= maxes[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an estimate of the number of persons of {@code index} in the ranges, counting persons in overlapping
+     * ranges once for each range.
+     */
+    int estimateIn(PersonAmountIndex index) {
+        int estimate = 0;
+        for (int i = 0; i < mins.length; i++) {
+            estimate += index.estimateBetween(mins[i], maxes[i]);
+        }
+        return estimate;
+    }
+}
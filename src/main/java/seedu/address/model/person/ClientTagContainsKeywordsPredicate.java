@@ -1,16 +1,18 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.ClientTag;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class ClientTagContainsKeywordsPredicate extends FindPredicate {
     private final List<String> clientTags;
+    /** The values of the tag matched, one bit each. */
+    private final int mask;
 
     /**
      * Constructs a {@code RiskTagContainsKeywordsPredicate}.
@@ -20,19 +22,22 @@ public class ClientTagContainsKeywordsPredicate extends FindPredicate {
     public ClientTagContainsKeywordsPredicate(List<String> clientTags) {
         super(clientTags);
         this.clientTags = clientTags.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
+        int mask = 0;
+        for (String tagName : this.clientTags) {
+            ClientTag.Type value = ClientTag.Type.fromName(tagName);
+            mask |= value == null ? 0 : value.getMask();
+        }
+        this.mask = mask;
     }
 
     @Override
     public boolean test(Person person) {
-        Set<Tag> personTags = person.getSpecialTags();
-        for (String predicateTagName : clientTags) {
-            for (Tag personsTag : personTags) {
-                if (personsTag.tagName.equalsIgnoreCase(predicateTagName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (mask & person.getClientTag().getClientType().getMask()) != 0;
+    }
+
+    @Override
+    public Optional<List<String>> getSpecialTagNames() {
+        return Optional.of(clientTags);
     }
 
     @Override
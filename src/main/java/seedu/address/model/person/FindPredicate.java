@@ -1,13 +1,21 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import seedu.address.model.query.FindQuery;
+
 /**
  * Predicate used to filter the clients in the {@code FilteredList}
  */
 public abstract class FindPredicate implements Predicate<Person> {
+    /** Separates the two ends of a range of amounts, as in {@code 50000..120000}. */
+    public static final String RANGE_SEPARATOR = "..";
+
     private final List<String> keywords;
 
     /**
@@ -19,7 +27,48 @@ public abstract class FindPredicate implements Predicate<Person> {
         this.keywords = keywords.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
-    public FindPredicate or(FindPredicate other) {
-        return this.or(other);
+    /**
+     * Returns a predicate that is equivalent to this one, answered from {@code indexes} where possible.
+     * The returned predicate must only be used on persons indexed by {@code indexes}.
+     */
+    public Predicate<Person> usingIndex(PersonIndexes indexes) {
+        return this;
+    }
+
+    /**
+     * Returns true if testing a person against this predicate directly is as cheap as answering it from an index.
+     */
+    public boolean isCheapToTest() {
+        return false;
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code indexes} that this predicate matches, or -1 if it
+     * cannot tell. Used to decide which predicates of a find query to test first.
+     */
+    public int estimateMatches(PersonIndexes indexes) {
+        return -1;
+    }
+
+    /**
+     * Returns the upper case names of the risk, plan or client tags that this predicate matches, if it matches
+     * persons by those tags alone, so that it can be answered from a bitmap index. Returns an empty
+     * {@code Optional} otherwise.
+     */
+    public Optional<List<String>> getSpecialTagNames() {
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + keywords;
+    }
+
+    /**
+     * Returns a query that matches the persons matched by this predicate or by {@code other}.
+     */
+    public FindQuery or(FindPredicate other) {
+        requireNonNull(other);
+        return FindQuery.anyOf(List.of(FindQuery.of(this), FindQuery.of(other)));
     }
 }
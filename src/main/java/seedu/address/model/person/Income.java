@@ -9,15 +9,19 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  */
 public class Income {
 
-    public static final String MESSAGE_CONSTRAINTS = "Income can only take in a non-negative whole number";
+    public static final String MESSAGE_CONSTRAINTS =
+            "Income can only take in a non-negative whole number of at most 18 digits";
 
     /*
      * The first character of the address must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
      */
-    public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]*)$";
+    public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]{0,17})$";
 
-    public final String value;
+    private static final long MAXIMUM_VALUE = 999_999_999_999_999_999L;
+
+    /** The amount in whole dollars, formatted with a leading "$" only when displayed. */
+    public final long value;
 
     /**
      * Constructs an {@code Income}.
@@ -27,7 +31,17 @@ public class Income {
     public Income(String income) {
         requireNonNull(income);
         checkArgument(isValidIncome(income), MESSAGE_CONSTRAINTS);
-        value = "$" + income;
+        value = Long.parseLong(income);
+    }
+
+    /**
+     * Constructs an {@code Income} of {@code value} whole dollars.
+     *
+     * @param value A non-negative amount of at most 18 digits.
+     */
+    public Income(long value) {
+        checkArgument(value >= 0 && value <= MAXIMUM_VALUE, MESSAGE_CONSTRAINTS);
+        this.value = value;
     }
 
     /**
@@ -38,28 +52,27 @@ public class Income {
     }
 
     /**
-     * Returns an int from the String of income without the $.
-     * @return an int converted from the String.
+     * Returns the income level in whole dollars.
      */
     public long convertIncomeToLong() {
-        return Long.parseLong(this.value.substring(1));
+        return value;
     }
 
     @Override
     public String toString() {
-        return value;
+        return "$" + value;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Income // instanceof handles nulls
-                && value.equals(((Income) other).value)); // state check
+                && value == ((Income) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
 }
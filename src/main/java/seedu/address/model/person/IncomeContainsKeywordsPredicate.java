@@ -8,37 +8,33 @@ import java.util.List;
 public class IncomeContainsKeywordsPredicate extends FindPredicate {
     private final List<String> income;
     private String predicate;
+    private final AmountRanges ranges;
 
     /**
-     * Tests that a {@code Person}'s {@code Income} is greater or lesser than given value.
+     * Tests that a {@code Person}'s {@code Income} is greater or lesser than given value,
+     * or within the given ranges if {@code predicate} is {@link FindPredicate#RANGE_SEPARATOR}.
      */
     public IncomeContainsKeywordsPredicate(List<String> income, String predicate) {
         super(income);
         this.income = income;
         this.predicate = predicate;
+        this.ranges = new AmountRanges(income, predicate);
     }
 
     @Override
     public boolean test(Person person) {
-        Income personIncome = person.getIncome();
-        for (String predicateIncomeName : income) {
-            if (predicate.equals(">")) {
-                if (personIncome.convertIncomeToLong() >= Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            } else if (predicate.equals("<")) {
-                if (personIncome.convertIncomeToLong() <= Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            } else if (predicate.equals("=")) {
-                if (personIncome.convertIncomeToLong() == Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return ranges.contains(person.getIncome().convertIncomeToLong());
     }
 
+    @Override
+    public boolean isCheapToTest() {
+        return true;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return ranges.estimateIn(indexes.getIncomeIndex());
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -10,15 +10,18 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Monthly {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Monthly contribution can only take in a non-negative whole number";
+            "Monthly contribution can only take in a non-negative whole number of at most 18 digits";
 
     /*
      * The first character of the address must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
      */
-    public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]*)$";
+    public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]{0,17})$";
 
-    public final String value;
+    private static final long MAXIMUM_VALUE = 999_999_999_999_999_999L;
+
+    /** The amount in whole dollars, formatted with a leading "$" only when displayed. */
+    public final long value;
 
     /**
      * Constructs an {@code Monthly}.
@@ -28,7 +31,17 @@ public class Monthly {
     public Monthly(String monthly) {
         requireNonNull(monthly);
         checkArgument(isValidMonthly(monthly), MESSAGE_CONSTRAINTS);
-        value = "$" + monthly;
+        value = Long.parseLong(monthly);
+    }
+
+    /**
+     * Constructs an {@code Monthly} of {@code value} whole dollars.
+     *
+     * @param value A non-negative amount of at most 18 digits.
+     */
+    public Monthly(long value) {
+        checkArgument(value >= 0 && value <= MAXIMUM_VALUE, MESSAGE_CONSTRAINTS);
+        this.value = value;
     }
 
     /**
@@ -39,27 +52,26 @@ public class Monthly {
     }
 
     /**
-     * Returns a long from the String of monthly contribution without the $.
-     * @return a long converted from the String.
+     * Returns the monthly contribution in whole dollars.
      */
     public long convertMonthlyToLong() {
-        return Long.parseLong(this.value.substring(1));
+        return value;
     }
 
     @Override
     public String toString() {
-        return value;
+        return "$" + value;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Monthly // instanceof handles nulls
-                && value.equals(((Monthly) other).value)); // state check
+                && value == ((Monthly) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 }
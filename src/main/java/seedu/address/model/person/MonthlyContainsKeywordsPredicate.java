@@ -2,45 +2,39 @@ package seedu.address.model.person;
 
 import java.util.List;
 
-
 /**
  * Tests that a {@code Person}'s {@code Monthly} matches any of the keywords given.
  */
 public class MonthlyContainsKeywordsPredicate extends FindPredicate {
     private final List<String> monthly;
     private String predicate;
+    private final AmountRanges ranges;
 
     /**
-     * Tests that a {@code Person}'s {@code Monthly} is greater or lesser than given value.
+     * Tests that a {@code Person}'s {@code Monthly} is greater or lesser than given value,
+     * or within the given ranges if {@code predicate} is {@link FindPredicate#RANGE_SEPARATOR}.
      */
     public MonthlyContainsKeywordsPredicate(List<String> monthly, String predicate) {
         super(monthly);
         this.monthly = monthly;
         this.predicate = predicate;
+        this.ranges = new AmountRanges(monthly, predicate);
     }
 
     @Override
     public boolean test(Person person) {
+        return ranges.contains(person.getMonthly().convertMonthlyToLong());
+    }
 
-        Monthly personMonthly = person.getMonthly();
-        for (String predicateMonthlyName : monthly) {
-            if (predicate.equals(">")) {
-                if (personMonthly.convertMonthlyToLong() >= Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            } else if (predicate.equals("<")) {
-                if (personMonthly.convertMonthlyToLong() <= Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            } else if (predicate.equals("=")) {
-                if (personMonthly.convertMonthlyToLong() == Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    @Override
+    public boolean isCheapToTest() {
+        return true;
     }
 
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return ranges.estimateIn(indexes.getMonthlyIndex());
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
@@ -27,6 +28,28 @@ public class NameContainsKeywordsPredicate extends FindPredicate {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public Predicate<Person> usingIndex(PersonIndexes indexes) {
+        PersonTokenIndex index = indexes.getTokenIndex();
+        return person -> {
+            for (String keyword : keywords) {
+                if (index.hasNameToken(person, keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        int count = 0;
+        for (String keyword : keywords) {
+            count += indexes.getTokenIndex().getPersonsWithNameToken(keyword).size();
+        }
+        return count;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.model.tag.NormalTag;
@@ -35,6 +36,28 @@ public class NormalTagContainsKeywordsPredicate extends FindPredicate {
         return false;
     }
 
+    @Override
+    public Predicate<Person> usingIndex(PersonIndexes indexes) {
+        PersonTokenIndex index = indexes.getTokenIndex();
+        return person -> {
+            for (String tagName : tags) {
+                if (index.hasTag(person, tagName)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        int count = 0;
+        for (String tagName : tags) {
+            count += indexes.getTokenIndex().getPersonsWithTag(tagName).size();
+        }
+        return count;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
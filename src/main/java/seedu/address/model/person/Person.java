@@ -2,8 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -16,6 +16,7 @@ import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.PlanTag;
 import seedu.address.model.tag.RiskTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 import seedu.address.model.util.MaximumSortedList;
 
 /**
@@ -36,8 +37,9 @@ public class Person {
     private final RiskTag riskTag;
     private final PlanTag planTag;
     private final ClientTag clientTag;
-    private final Set<Tag> specialTags = new HashSet<>();
-    private final Set<NormalTag> tags = new HashSet<>();
+    // tag sets are compact and immutable, since persons rarely have more than a few tags
+    private final Set<Tag> specialTags;
+    private final Set<NormalTag> tags;
     private MaximumSortedList<Appointment> appointments = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
 
     /**
@@ -45,7 +47,7 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, Income incomeLevel,
                   Monthly monthly, RiskTag riskTag, PlanTag planTag, ClientTag clientTag, Set<NormalTag> tags) {
-        requireAllNonNull(name, phone, email, address, incomeLevel, monthly, riskTag, planTag, tags);
+        requireAllNonNull(name, phone, email, address, incomeLevel, monthly, riskTag, planTag, clientTag, tags);
 
         this.name = name;
         this.phone = phone;
@@ -54,12 +56,10 @@ public class Person {
         this.riskTag = riskTag;
         this.planTag = planTag;
         this.clientTag = clientTag;
-        this.specialTags.add(riskTag);
-        this.specialTags.add(planTag);
-        this.specialTags.add(clientTag);
+        this.specialTags = Collections.unmodifiableSet(TagSet.of(Arrays.asList(riskTag, planTag, clientTag)));
         this.incomeLevel = incomeLevel;
         this.monthly = monthly;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(TagSet.of(tags));
     }
 
     /**
@@ -68,7 +68,7 @@ public class Person {
     public Person(Name name, Phone phone, Email email, Address address, Income incomeLevel, Monthly monthly,
                   RiskTag riskTag, PlanTag planTag, ClientTag clientTag,
                   Set<NormalTag> tags, MaximumSortedList<Appointment> appointments) {
-        requireAllNonNull(name, phone, email, address, tags);
+        requireAllNonNull(name, phone, email, address, incomeLevel, monthly, riskTag, planTag, clientTag, tags);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -76,11 +76,9 @@ public class Person {
         this.riskTag = riskTag;
         this.planTag = planTag;
         this.clientTag = clientTag;
-        this.specialTags.add(riskTag);
-        this.specialTags.add(planTag);
-        this.specialTags.add(clientTag);
+        this.specialTags = Collections.unmodifiableSet(TagSet.of(Arrays.asList(riskTag, planTag, clientTag)));
         this.monthly = monthly;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(TagSet.of(tags));
         this.appointments = appointments;
         this.incomeLevel = incomeLevel;
     }
@@ -133,10 +131,10 @@ public class Person {
      * if modification is attempted.
      */
     public Set<NormalTag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
     public Set<Tag> getSpecialTags() {
-        return Collections.unmodifiableSet(specialTags);
+        return specialTags;
     }
 
     public void setAppointments(MaximumSortedList<Appointment> newAppointments) {
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * A histogram of a whole dollar amount of persons, such as their income, used to estimate how many persons have
+ * an amount in a range when planning a find.
+ *
+ * Amounts are counted in buckets that split every power of two into four equal parts, so each bucket is at most
+ * a quarter as wide as the amounts in it, and only the buckets at either end of a range are estimated.
+ * Adding and removing a person updates a single count. The persons themselves are not kept: range finds test
+ * each person's amount directly, which is as cheap as looking it up.
+ */
+public class PersonAmountIndex {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Amounts below this value each have a bucket of their own. */
+    private static final long LINEAR_LIMIT = SUB_BUCKETS;
+    private static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final ToLongFunction<Person> amountOf;
+    private final int[] counts = new int[BUCKET_COUNT];
+    private int size = 0;
+
+    /**
+     * Creates an empty index of the amounts given by {@code amountOf}, which are never negative.
+     */
+    PersonAmountIndex(ToLongFunction<Person> amountOf) {
+        this.amountOf = requireNonNull(amountOf);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        counts[bucketOf(amountOf.applyAsLong(person))]++;
+        size++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added to the index, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        int bucket = bucketOf(amountOf.applyAsLong(person));
+        if (counts[bucket] > 0) {
+            counts[bucket]--;
+            size--;
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code replacement}.
+     */
+    void setAll(List<Person> replacement) {
+        requireNonNull(replacement);
+        Arrays.fill(counts, 0);
+        size = 0;
+        replacement.forEach(this::add);
+    }
+
+    /**
+     * Returns an estimate of the number of persons with an amount from {@code min} to {@code max} inclusive.
+     * Buckets that lie wholly in the range are counted exactly, and the persons in a bucket that the range only
+     * partly covers are assumed to be spread evenly across it.
+     */
+    public int estimateBetween(long min, long max) {
+        if (min > max || max < 0) {
+            return 0;
+        }
+        long low = Math.max(min, 0);
+        double estimate = 0;
+        for (int bucket = bucketOf(low); bucket <= bucketOf(max); bucket++) {
+            if (counts[bucket] == 0) {
+                continue;
+            }
+            long bucketMin = lowestAmountOf(bucket);
+            long bucketMax = bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowestAmountOf(bucket + 1) - 1;
+            long covered = Math.min(max, bucketMax) - Math.max(low, bucketMin) + 1;
+            estimate += counts[bucket] * ((double) covered / (bucketMax - bucketMin + 1));
+        }
+        return (int) Math.round(estimate);
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int bucketOf(long amount) {
+        if (amount < LINEAR_LIMIT) {
+            return (int) amount;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(amount);
+        int subBucket = (int) (amount >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowestAmountOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int highestBit = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (highestBit - SUB_BUCKET_BITS);
+    }
+}
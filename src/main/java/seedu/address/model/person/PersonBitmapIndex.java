@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A bitmap index from the risk, plan and client tags of persons to their positions in a {@code UniquePersonList}.
+ * There is one bit set per distinct tag name, ignoring case, with a bit for every position in the list.
+ *
+ * These tags only have a handful of values each, so finding the persons with any of several of them is a bitwise
+ * OR of a few bit sets, and each person is then matched with a single bit lookup. Adding a person to the end of
+ * the list and replacing a person update the bits in place. Removing a person from the middle of the list and
+ * sorting it move positions around, so the bit sets are rebuilt the next time they are needed instead.
+ */
+public class PersonBitmapIndex {
+    private final List<Person> persons;
+    private final ToIntFunction<Person> positionOf;
+    private final Map<String, BitSet> positionsByTagName = new HashMap<>();
+    private boolean isStale = false;
+    private long modificationCount = 0;
+
+    /**
+     * Creates an empty index over the positions of {@code persons}, which are found by {@code positionOf}.
+     */
+    PersonBitmapIndex(List<Person> persons, ToIntFunction<Person> positionOf) {
+        this.persons = requireNonNull(persons);
+        this.positionOf = requireNonNull(positionOf);
+    }
+
+    /**
+     * Records that {@code person} is at {@code position}, which must be the end of the list.
+     */
+    void add(Person person, int position) {
+        if (!isStale) {
+            setBits(person, position, true);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Records that {@code person} has replaced {@code previous} at {@code position}.
+     */
+    void set(Person previous, Person person, int position) {
+        if (!isStale) {
+            setBits(previous, position, false);
+            setBits(person, position, true);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Records that {@code person} has been removed from {@code position}.
+     * {@code wasLast} tells whether it was at the end of the list, so that no other positions have moved.
+     */
+    void remove(Person person, int position, boolean wasLast) {
+        if (!isStale) {
+            setBits(person, position, false);
+            isStale = !wasLast;
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Records that the positions of any of the persons may have changed.
+     */
+    void invalidate() {
+        isStale = true;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the positions of the persons with a risk, plan or client tag named any of {@code tagNames},
+     * ignoring case.
+     */
+    public BitSet getPositionsWithAny(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        if (isStale) {
+            rebuild();
+        }
+        BitSet positions = new BitSet(persons.size());
+        for (String tagName : tagNames) {
+            BitSet tagPositions = positionsByTagName.get(normalize(tagName));
+            if (tagPositions != null) {
+                positions.or(tagPositions);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions of the persons that, for every group of {@code tagNameGroups}, have a risk, plan or
+     * client tag named any of the names in the group, ignoring case.
+     */
+    public BitSet getPositionsWithAll(List<? extends Collection<String>> tagNameGroups) {
+        requireNonNull(tagNameGroups);
+        BitSet positions = new BitSet(persons.size());
+        positions.set(0, persons.size());
+        for (Collection<String> tagNames : tagNameGroups) {
+            positions.and(getPositionsWithAny(tagNames));
+        }
+        return positions;
+    }
+
+    /**
+     * Returns a predicate that matches the persons in the list with a risk, plan or client tag named any of
+     * {@code tagNames}, ignoring case. The positions matched are worked out again whenever the list has changed
+     * since the last test.
+     */
+    public Predicate<Person> withAnyOf(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return toPredicate(() -> getPositionsWithAny(tagNames));
+    }
+
+    /**
+     * Returns a predicate that matches the persons in the list that, for every group of {@code tagNameGroups},
+     * have a risk, plan or client tag named any of the names in the group, ignoring case.
+     * The positions matched are worked out again whenever the list has changed since the last test.
+     */
+    public Predicate<Person> withAllOf(List<? extends Collection<String>> tagNameGroups) {
+        requireNonNull(tagNameGroups);
+        return toPredicate(() -> getPositionsWithAll(tagNameGroups));
+    }
+
+    private Predicate<Person> toPredicate(Supplier<BitSet> positionsSupplier) {
+        return new Predicate<>() {
+            private BitSet positions;
+            private long positionsModificationCount;
+            private int nextPosition = 0;
+
+            @Override
+            public boolean test(Person person) {
+                if (positions == null || positionsModificationCount != modificationCount) {
+                    positions = positionsSupplier.get();
+                    positionsModificationCount = modificationCount;
+                }
+                // persons are usually tested in list order, so the position after the last one is tried first
+                int position = nextPosition < persons.size() && persons.get(nextPosition) == person
+                        ? nextPosition
+                        : positionOf.applyAsInt(person);
+                nextPosition = position + 1;
+                return position >= 0 && positions.get(position);
+            }
+        };
+    }
+
+    private void rebuild() {
+        positionsByTagName.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            setBits(persons.get(i), i, true);
+        }
+        isStale = false;
+    }
+
+    private void setBits(Person person, int position, boolean value) {
+        for (Tag tag : person.getSpecialTags()) {
+            String tagName = normalize(tag.tagName);
+            if (value) {
+                positionsByTagName.computeIfAbsent(tagName, unused -> new BitSet()).set(position);
+            } else if (positionsByTagName.containsKey(tagName)) {
+                positionsByTagName.get(tagName).clear(position);
+            }
+        }
+    }
+
+    private static String normalize(String tagName) {
+        return tagName.toUpperCase(Locale.ROOT);
+    }
+}
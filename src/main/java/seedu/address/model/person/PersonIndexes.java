@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * The indexes kept over the persons of a {@code UniquePersonList} to answer find queries without scanning
+ * every person: the words in their names and their tags, and a bitmap of their risk, plan and client tags, along
+ * with histograms of their incomes and monthly contributions that estimate how many persons a range find matches.
+ * The indexes are kept up to date by the {@code UniquePersonList} that owns them.
+ */
+public class PersonIndexes {
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
+    private final PersonAmountIndex incomeIndex = new PersonAmountIndex(person -> person.getIncome()
+            .convertIncomeToLong());
+    private final PersonAmountIndex monthlyIndex = new PersonAmountIndex(person -> person.getMonthly()
+            .convertMonthlyToLong());
+    private final PersonBitmapIndex bitmapIndex;
+
+    /**
+     * Creates empty indexes over {@code persons}, the positions of which are found by {@code positionOf}.
+     */
+    PersonIndexes(List<Person> persons, ToIntFunction<Person> positionOf) {
+        bitmapIndex = new PersonBitmapIndex(persons, positionOf);
+    }
+
+    /**
+     * Adds {@code person}, at {@code position} at the end of the list, to every index.
+     */
+    void add(Person person, int position) {
+        requireNonNull(person);
+        tokenIndex.add(person);
+        incomeIndex.add(person);
+        monthlyIndex.add(person);
+        bitmapIndex.add(person, position);
+    }
+
+    /**
+     * Replaces {@code previous} with {@code person}, at {@code position}, in every index.
+     */
+    void set(Person previous, Person person, int position) {
+        requireNonNull(person);
+        tokenIndex.remove(previous);
+        tokenIndex.add(person);
+        incomeIndex.remove(previous);
+        incomeIndex.add(person);
+        monthlyIndex.remove(previous);
+        monthlyIndex.add(person);
+        bitmapIndex.set(previous, person, position);
+    }
+
+    /**
+     * Removes {@code person}, at {@code position}, from every index.
+     * {@code wasLast} tells whether it was at the end of the list.
+     */
+    void remove(Person person, int position, boolean wasLast) {
+        requireNonNull(person);
+        tokenIndex.remove(person);
+        incomeIndex.remove(person);
+        monthlyIndex.remove(person);
+        bitmapIndex.remove(person, position, wasLast);
+    }
+
+    /**
+     * Replaces the contents of every index with {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        tokenIndex.clear();
+        persons.forEach(tokenIndex::add);
+        incomeIndex.setAll(persons);
+        monthlyIndex.setAll(persons);
+        bitmapIndex.invalidate();
+    }
+
+    /**
+     * Records that the persons have been reordered.
+     */
+    void reorder() {
+        bitmapIndex.invalidate();
+    }
+
+    /**
+     * Returns predicates that between them match the same persons as {@code predicates}, answered from the indexes
+     * where possible. Find predicates that only look at risk, plan or client tags are combined into a single
+     * bitmap lookup.
+     */
+    public List<Predicate<Person>> usingIndexes(List<? extends Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        List<Predicate<Person>> indexedPredicates = new ArrayList<>(predicates.size());
+        List<String> specialTagNames = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            requireNonNull(predicate);
+            if (!(predicate instanceof FindPredicate)) {
+                indexedPredicates.add(predicate);
+                continue;
+            }
+            FindPredicate findPredicate = (FindPredicate) predicate;
+            Optional<List<String>> tagNames = findPredicate.getSpecialTagNames();
+            if (tagNames.isPresent()) {
+                specialTagNames.addAll(tagNames.get());
+            } else {
+                indexedPredicates.add(findPredicate.usingIndex(this));
+            }
+        }
+        if (!specialTagNames.isEmpty()) {
+            indexedPredicates.add(0, bitmapIndex.withAnyOf(specialTagNames));
+        }
+        return indexedPredicates;
+    }
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    public int size() {
+        return incomeIndex.size();
+    }
+
+    public PersonTokenIndex getTokenIndex() {
+        return tokenIndex;
+    }
+
+    public PersonAmountIndex getIncomeIndex() {
+        return incomeIndex;
+    }
+
+    public PersonAmountIndex getMonthlyIndex() {
+        return monthlyIndex;
+    }
+
+    public PersonBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.NormalTag;
+
+/**
+ * An inverted index from the words in persons' names, and from their normal tags, to the persons that have them.
+ * Words and tags are matched ignoring case, and persons are kept by identity.
+ *
+ * Supports constant time checks of whether a person has a given name word or tag, and lookup of all the persons
+ * that do, without splitting any names. The index is kept up to date by the {@code UniquePersonList} that owns it.
+ */
+public class PersonTokenIndex {
+    private static final String NAME_SEPARATOR_REGEX = "\\s+";
+
+    private final Map<String, Set<Person>> personsByNameToken = new HashMap<>();
+    private final Map<String, Set<Person>> personsByTag = new HashMap<>();
+
+    /**
+     * Adds the name words and tags of {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String token : getNameTokens(person)) {
+            personsByNameToken.computeIfAbsent(token, unused -> newIdentitySet()).add(person);
+        }
+        for (NormalTag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(normalize(tag.tagName), unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    /**
+     * Removes the name words and tags of {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String token : getNameTokens(person)) {
+            removePosting(personsByNameToken, token, person);
+        }
+        for (NormalTag tag : person.getTags()) {
+            removePosting(personsByTag, normalize(tag.tagName), person);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByNameToken.clear();
+        personsByTag.clear();
+    }
+
+    /**
+     * Returns true if {@code word} is one of the words in the name of {@code person}, ignoring case.
+     */
+    public boolean hasNameToken(Person person, String word) {
+        requireAllNonNull(person, word);
+        return contains(personsByNameToken, normalize(word.trim()), person);
+    }
+
+    /**
+     * Returns true if {@code person} has a normal tag named {@code tagName}, ignoring case.
+     */
+    public boolean hasTag(Person person, String tagName) {
+        requireAllNonNull(person, tagName);
+        return contains(personsByTag, normalize(tagName), person);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with {@code word} in their names, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameToken(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(personsByNameToken.getOrDefault(normalize(word.trim()),
+                Collections.emptySet()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with a normal tag named {@code tagName}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return Collections.unmodifiableSet(personsByTag.getOrDefault(normalize(tagName), Collections.emptySet()));
+    }
+
+    private static String[] getNameTokens(Person person) {
+        String[] tokens = person.getName().fullName.trim().split(NAME_SEPARATOR_REGEX);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = normalize(tokens[i]);
+        }
+        return tokens;
+    }
+
+    private static boolean contains(Map<String, Set<Person>> postings, String key, Person person) {
+        Set<Person> persons = postings.get(key);
+        return persons != null && persons.contains(person);
+    }
+
+    private static void removePosting(Map<String, Set<Person>> postings, String key, Person person) {
+        Set<Person> persons = postings.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static String normalize(String token) {
+        return token.toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
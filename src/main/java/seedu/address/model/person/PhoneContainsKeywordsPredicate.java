@@ -27,6 +27,12 @@ public class PhoneContainsKeywordsPredicate extends FindPredicate {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
     }
 
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        // phone numbers are rarely shared, so each keyword is taken to match one person
+        return phones.size();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,6 +36,11 @@ public class PlanTagContainsKeywordsPredicate extends FindPredicate {
         return false;
     }
 
+    @Override
+    public Optional<List<String>> getSpecialTagNames() {
+        return Optional.of(planTags);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
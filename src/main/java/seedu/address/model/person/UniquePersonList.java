@@ -4,12 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentIndex;
+import seedu.address.model.appointment.DateTime;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +24,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Name}, the identity field used by {@code Person#isSamePerson(Person)},
+ * so that identity checks and position lookups do not need to scan the whole list. The index is kept in sync
+ * by every mutating operation of this class. Appointments of the persons in the list are indexed by date time
+ * in an {@code AppointmentIndex}, to which changes made directly to a person's appointments are reported through
+ * {@link #updateAppointments(Person)}, and the fields searched by find are indexed in {@code PersonIndexes}.
+ * A modification count is kept so that callers can tell cheaply whether the list changed since they last looked.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +40,44 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    private boolean arePositionsStale = false;
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+    private final PersonIndexes indexes = new PersonIndexes(internalUnmodifiableList, this::positionOf);
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain a person that is
+     * equal to it.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Person samePerson = personsByName.get(toFind.getName());
+        if (samePerson == null || !samePerson.equals(toFind)) {
+            return -1;
+        }
+        if (arePositionsStale) {
+            rebuildPositions();
+        }
+        return positionsByName.get(toFind.getName());
+    }
+
+    /**
+     * Returns the number of changes made to the list, including changes to a person's appointments reported through
+     * {@link #updateAppointments(Person)}.
+     * The count only ever increases, so an unchanged count means the list has not been modified in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -43,14 +85,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPersonWithSameAppointmentDateTime(Appointment toCheck) {
         requireNonNull(toCheck);
-        for (Person person:internalUnmodifiableList) {
-            for (Appointment appointment: person.getAppointments().getObservableList()) {
-                if (appointment.getDateTime().equals(toCheck.getDateTime())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return appointmentIndex.contains(toCheck.getDateTime());
+    }
+
+    /**
+     * Returns the persons in the list with an appointment between {@code start} and {@code end} inclusive,
+     * in order of appointment date time.
+     */
+    public List<Person> getPersonsWithAppointmentBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return appointmentIndex.getOwnersBetween(start, end);
+    }
+
+    /**
+     * Returns the indexes of the fields searched by find, over the persons in the list.
+     */
+    public PersonIndexes getIndexes() {
+        return indexes;
     }
 
     /**
@@ -62,7 +113,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
+        positionsByName.put(toAdd.getName(), internalList.size());
+        appointmentIndex.track(toAdd);
+        indexes.add(toAdd, internalList.size());
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -73,7 +129,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -82,7 +138,34 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        positionsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        positionsByName.put(editedPerson.getName(), index);
+        // target may be an equal copy of the person in the list, and the indexes hold persons by identity
+        Person current = internalList.get(index);
+        appointmentIndex.untrack(current);
+        appointmentIndex.track(editedPerson);
+        indexes.set(current, editedPerson, index);
         internalList.set(index, editedPerson);
+        modificationCount++;
+    }
+
+    /**
+     * Reports that the appointments of {@code person} have been changed in place.
+     * That very person must exist in the list.
+     */
+    public void updateAppointments(Person person) {
+        requireNonNull(person);
+        int index = positionOf(person);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        appointmentIndex.update(person);
+        // observers of the list see the person as replaced by itself, and refresh what they show of it
+        internalList.set(index, person);
+        modificationCount++;
     }
 
     /**
@@ -91,14 +174,34 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        personsByName.remove(toRemove.getName());
+        positionsByName.remove(toRemove.getName());
+        appointmentIndex.untrack(internalList.get(index));
+        indexes.remove(internalList.get(index), index, index == internalList.size() - 1);
+        // positions of the persons after the removed one shift
+        arePositionsStale |= index != internalList.size() - 1;
+        internalList.remove(index);
+        modificationCount++;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        appointmentIndex.clear();
+        replacement.internalList.forEach(appointmentIndex::track);
+        indexes.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        rebuildPositions();
+        modificationCount++;
     }
 
     /**
@@ -107,11 +210,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementsByName = indexByName(persons);
+        if (replacementsByName == null) {
             throw new DuplicatePersonException();
         }
 
+        personsByName.clear();
+        personsByName.putAll(replacementsByName);
+        appointmentIndex.clear();
+        persons.forEach(appointmentIndex::track);
+        indexes.setAll(persons);
         internalList.setAll(persons);
+        rebuildPositions();
+        modificationCount++;
     }
 
     /**
@@ -123,7 +234,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -139,20 +250,49 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by their names, or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 
+    /**
+     * Returns the position of {@code person} in the list, or -1 if that very person is not in the list.
+     */
+    private int positionOf(Person person) {
+        if (personsByName.get(person.getName()) != person) {
+            return -1;
+        }
+        if (arePositionsStale) {
+            rebuildPositions();
+        }
+        return positionsByName.get(person.getName());
+    }
+
+    /**
+     * Recomputes the position of every person in the list.
+     */
+    private void rebuildPositions() {
+        positionsByName.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+        arePositionsStale = false;
+    }
+
+    /**
+     * Sorts the list by the given {@code comparator}.
+     */
     public void sortPersons(Comparator<Person> comparator) {
+        arePositionsStale = true;
+        indexes.reorder();
         internalList.sort(comparator);
+        modificationCount++;
     }
 }
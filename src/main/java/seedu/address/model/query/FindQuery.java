@@ -0,0 +1,229 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.FindPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A find query, as an expression tree of find criteria combined with AND, OR and NOT.
+ *
+ * Testing a query directly evaluates its operands in the order they were written. Use a {@link QueryPlanner} to
+ * evaluate it in the order that is cheapest for the persons in an address book.
+ * Guarantees: immutable.
+ */
+public abstract class FindQuery implements Predicate<Person> {
+
+    /**
+     * Returns a query that matches the persons matched by {@code predicate}, described as {@code description}.
+     */
+    public static FindQuery of(FindPredicate predicate, String description) {
+        return new Criterion(predicate, description);
+    }
+
+    /**
+     * Returns a query that matches the persons matched by {@code predicate}.
+     */
+    public static FindQuery of(FindPredicate predicate) {
+        return of(predicate, predicate.toString());
+    }
+
+    /**
+     * Returns a query that matches the persons matched by all of {@code operands}.
+     * A single operand is returned as it is.
+     */
+    public static FindQuery allOf(List<FindQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new AllOf(operands);
+    }
+
+    /**
+     * Returns a query that matches the persons matched by any of {@code operands}.
+     * A single operand is returned as it is.
+     */
+    public static FindQuery anyOf(List<FindQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new AnyOf(operands);
+    }
+
+    /**
+     * Returns a query that matches the persons not matched by {@code operand}.
+     */
+    public static FindQuery not(FindQuery operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * A single find criterion, such as {@code n/alice bob}.
+     */
+    public static class Criterion extends FindQuery {
+        private final FindPredicate predicate;
+        private final String description;
+
+        private Criterion(FindPredicate predicate, String description) {
+            this.predicate = requireNonNull(predicate);
+            this.description = requireNonNull(description);
+        }
+
+        public FindPredicate getPredicate() {
+            return predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Criterion // instanceof handles nulls
+                    && predicate.equals(((Criterion) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getClass().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Matches the persons matched by all of its operands.
+     */
+    public static class AllOf extends FindQuery {
+        private final List<FindQuery> operands;
+
+        private AllOf(List<FindQuery> operands) {
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<FindQuery> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (FindQuery operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AllOf // instanceof handles nulls
+                    && operands.equals(((AllOf) other).operands)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return join(operands, " AND ");
+        }
+    }
+
+    /**
+     * Matches the persons matched by any of its operands.
+     */
+    public static class AnyOf extends FindQuery {
+        private final List<FindQuery> operands;
+
+        private AnyOf(List<FindQuery> operands) {
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<FindQuery> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (FindQuery operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AnyOf // instanceof handles nulls
+                    && operands.equals(((AnyOf) other).operands)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return join(operands, " OR ");
+        }
+    }
+
+    /**
+     * Matches the persons not matched by its operand.
+     */
+    public static class Not extends FindQuery {
+        private final FindQuery operand;
+
+        private Not(FindQuery operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        public FindQuery getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && operand.equals(((Not) other).operand)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + (operand instanceof Criterion || operand instanceof Not
+                    ? operand.toString()
+                    : "(" + operand + ")");
+        }
+    }
+
+    private static String join(List<FindQuery> operands, String operator) {
+        return operands.stream()
+                .map(operand -> operand instanceof AllOf || operand instanceof AnyOf
+                        ? "(" + operand + ")"
+                        : operand.toString())
+                .collect(Collectors.joining(operator));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The order chosen by a {@link QueryPlanner} to evaluate a {@link FindQuery} in, with the estimated number of
+ * persons matched by each step.
+ */
+public class QueryPlan {
+    private static final String INDENT = "  ";
+
+    private final Step root;
+    private final int size;
+
+    /**
+     * Creates a plan that evaluates {@code root} over {@code size} persons.
+     */
+    QueryPlan(Step root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as the planned query, evaluated in the planned order.
+     */
+    public Predicate<Person> getPredicate() {
+        return root.predicate;
+    }
+
+    /**
+     * Returns the estimated number of persons matched by the planned query.
+     */
+    public int getEstimatedMatches() {
+        return root.estimateMatches(size);
+    }
+
+    /**
+     * Returns the steps of the plan, one per line, in the order they are evaluated.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        appendStep(explanation, root, "");
+        return explanation.toString();
+    }
+
+    private void appendStep(StringBuilder explanation, Step step, String indent) {
+        if (explanation.length() > 0) {
+            explanation.append('\n');
+        }
+        explanation.append(indent).append(step.description)
+                .append(" (about ").append(step.estimateMatches(size)).append(" of ").append(size).append(')');
+        for (Step child : step.children) {
+            appendStep(explanation, child, indent + INDENT);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    /**
+     * A step of a plan: a predicate, the share of persons it is estimated to match, and the estimated cost of
+     * testing a person against it, relative to a bitmap lookup.
+     */
+    static class Step {
+        final String description;
+        final double selectivity;
+        final double cost;
+        final Predicate<Person> predicate;
+        final List<Step> children;
+
+        Step(String description, double selectivity, double cost, Predicate<Person> predicate, List<Step> children) {
+            this.description = description;
+            this.selectivity = selectivity;
+            this.cost = cost;
+            this.predicate = predicate;
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        Step(String description, double selectivity, double cost, Predicate<Person> predicate) {
+            this(description, selectivity, cost, predicate, Collections.emptyList());
+        }
+
+        int estimateMatches(int size) {
+            return (int) Math.round(selectivity * size);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.FindPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBitmapIndex;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.query.QueryPlan.Step;
+
+/**
+ * Plans the evaluation of a {@link FindQuery} over the persons of an address book.
+ *
+ * Each criterion is answered from the cheapest index that can answer it: risk, plan and client tags from the
+ * bitmap index, names and tags from their own indexes, amounts by comparing them to the ranges, which is as cheap,
+ * and anything else by testing every person.
+ * Criteria on risk, plan and client tags that are combined with each other are merged into a single bitmap lookup.
+ * The share of persons matched by each criterion is estimated from the indexes, and the operands of every AND are
+ * evaluated so that the cheap criteria most likely to rule a person out come first, and those of every OR so that
+ * the cheap criteria most likely to match come first. Both stop at the first operand that settles the result.
+ */
+public class QueryPlanner {
+    /** Relative cost of testing a person against a bitmap. */
+    static final double BITMAP_COST = 1;
+    /** Relative cost of testing a person against one of the other indexes. */
+    static final double INDEX_COST = 2;
+    /** Relative cost of testing a person against a criterion that has no index. */
+    static final double SCAN_COST = 8;
+    /** Share of persons assumed to match a criterion that cannot estimate its matches. */
+    static final double UNKNOWN_SELECTIVITY = 0.5;
+
+    private final PersonIndexes indexes;
+    private final int size;
+
+    private QueryPlanner(PersonIndexes indexes) {
+        this.indexes = indexes;
+        this.size = indexes.size();
+    }
+
+    /**
+     * Returns the plan for evaluating {@code query} over the persons in {@code indexes}.
+     * The plan's predicate must only be used on those persons.
+     */
+    public static QueryPlan plan(FindQuery query, PersonIndexes indexes) {
+        requireAllNonNull(query, indexes);
+        return new QueryPlan(new QueryPlanner(indexes).planQuery(query), indexes.size());
+    }
+
+    private Step planQuery(FindQuery query) {
+        if (query instanceof FindQuery.AllOf) {
+            return planAllOf(((FindQuery.AllOf) query).getOperands());
+        } else if (query instanceof FindQuery.AnyOf) {
+            return planAnyOf(((FindQuery.AnyOf) query).getOperands());
+        } else if (query instanceof FindQuery.Not) {
+            Step operand = planQuery(((FindQuery.Not) query).getOperand());
+            return new Step("NOT", 1 - operand.selectivity, operand.cost, operand.predicate.negate(),
+                    List.of(operand));
+        } else {
+            return planCriterion((FindQuery.Criterion) query);
+        }
+    }
+
+    private Step planCriterion(FindQuery.Criterion criterion) {
+        FindPredicate predicate = criterion.getPredicate();
+        Optional<List<String>> tagNames = predicate.getSpecialTagNames();
+        if (tagNames.isPresent()) {
+            PersonBitmapIndex bitmapIndex = indexes.getBitmapIndex();
+            return new Step("bitmap " + criterion, share(bitmapIndex.getPositionsWithAny(tagNames.get()).cardinality()),
+                    BITMAP_COST, bitmapIndex.withAnyOf(tagNames.get()));
+        }
+
+        Predicate<Person> indexedPredicate = predicate.usingIndex(indexes);
+        int estimatedMatches = predicate.estimateMatches(indexes);
+        boolean isIndexed = indexedPredicate != predicate || predicate.isCheapToTest();
+        return new Step((isIndexed ? "index " : "scan ") + criterion,
+                estimatedMatches < 0 ? UNKNOWN_SELECTIVITY : share(estimatedMatches),
+                isIndexed ? INDEX_COST : SCAN_COST, indexedPredicate);
+    }
+
+    private Step planAllOf(List<FindQuery> operands) {
+        List<FindQuery.Criterion> bitmapCriteria = getBitmapCriteria(operands);
+        List<Step> steps = planOperands(operands, bitmapCriteria);
+        if (bitmapCriteria.size() > 1) {
+            List<List<String>> tagNameGroups = bitmapCriteria.stream()
+                    .map(criterion -> criterion.getPredicate().getSpecialTagNames().get())
+                    .collect(Collectors.toList());
+            PersonBitmapIndex bitmapIndex = indexes.getBitmapIndex();
+            steps.add(new Step("bitmap " + describe(bitmapCriteria, " AND "),
+                    share(bitmapIndex.getPositionsWithAll(tagNameGroups).cardinality()), BITMAP_COST,
+                    bitmapIndex.withAllOf(tagNameGroups)));
+        }
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+
+        // the cheap steps most likely to fail go first, as testing stops at the first step that fails
+        steps.sort(Comparator.comparingDouble(step -> step.cost / (1 - step.selectivity)));
+        double selectivity = 1;
+        double cost = 0;
+        for (Step step : steps) {
+            cost += selectivity * step.cost;
+            selectivity *= step.selectivity;
+        }
+        List<Predicate<Person>> predicates = getPredicates(steps);
+        return new Step("AND", selectivity, cost, person -> {
+            for (int i = 0; i < predicates.size(); i++) {
+                if (!predicates.get(i).test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }, steps);
+    }
+
+    private Step planAnyOf(List<FindQuery> operands) {
+        List<FindQuery.Criterion> bitmapCriteria = getBitmapCriteria(operands);
+        List<Step> steps = planOperands(operands, bitmapCriteria);
+        if (bitmapCriteria.size() > 1) {
+            List<String> tagNames = bitmapCriteria.stream()
+                    .flatMap(criterion -> criterion.getPredicate().getSpecialTagNames().get().stream())
+                    .collect(Collectors.toList());
+            PersonBitmapIndex bitmapIndex = indexes.getBitmapIndex();
+            steps.add(new Step("bitmap " + describe(bitmapCriteria, " OR "),
+                    share(bitmapIndex.getPositionsWithAny(tagNames).cardinality()), BITMAP_COST,
+                    bitmapIndex.withAnyOf(tagNames)));
+        }
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+
+        // the cheap steps most likely to match go first, as testing stops at the first step that matches
+        steps.sort(Comparator.comparingDouble(step -> step.cost / step.selectivity));
+        double nonSelectivity = 1;
+        double cost = 0;
+        for (Step step : steps) {
+            cost += nonSelectivity * step.cost;
+            nonSelectivity *= 1 - step.selectivity;
+        }
+        List<Predicate<Person>> predicates = getPredicates(steps);
+        return new Step("OR", 1 - nonSelectivity, cost, person -> {
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }, steps);
+    }
+
+    /**
+     * Returns the operands that are criteria on risk, plan or client tags alone, if there is more than one of them
+     * to merge into a single bitmap lookup.
+     */
+    private static List<FindQuery.Criterion> getBitmapCriteria(List<FindQuery> operands) {
+        List<FindQuery.Criterion> bitmapCriteria = new ArrayList<>();
+        for (FindQuery operand : operands) {
+            if (operand instanceof FindQuery.Criterion
+                    && ((FindQuery.Criterion) operand).getPredicate().getSpecialTagNames().isPresent()) {
+                bitmapCriteria.add((FindQuery.Criterion) operand);
+            }
+        }
+        return bitmapCriteria.size() > 1 ? bitmapCriteria : new ArrayList<>();
+    }
+
+    private List<Step> planOperands(List<FindQuery> operands, List<FindQuery.Criterion> mergedCriteria) {
+        List<Step> steps = new ArrayList<>(operands.size());
+        for (FindQuery operand : operands) {
+            if (!mergedCriteria.contains(operand)) {
+                steps.add(planQuery(operand));
+            }
+        }
+        return steps;
+    }
+
+    private static List<Predicate<Person>> getPredicates(List<Step> steps) {
+        return steps.stream().map(step -> step.predicate).collect(Collectors.toList());
+    }
+
+    private static String describe(List<FindQuery.Criterion> criteria, String operator) {
+        return criteria.stream().map(FindQuery::toString).collect(Collectors.joining(operator));
+    }
+
+    private double share(int count) {
+        return size == 0 ? 0 : Math.min(1, (double) count / size);
+    }
+}
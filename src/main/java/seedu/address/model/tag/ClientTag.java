@@ -1,10 +1,11 @@
 package seedu.address.model.tag;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a ClientTag in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidClientTagName(String)}
  */
 public class ClientTag extends SpecialTag {
 
@@ -13,7 +14,36 @@ public class ClientTag extends SpecialTag {
     public static final String CURRENT = "CURRENT";
     public static final String POTENTIAL = "POTENTIAL";
 
-    private int type;
+    /**
+     * The types of client a person can be.
+     */
+    public enum Type {
+        CURRENT, POTENTIAL;
+
+        private static final Type[] VALUES = values();
+
+        /**
+         * Returns the client type named {@code name} exactly, or null if there is none.
+         */
+        public static Type fromName(String name) {
+            requireNonNull(name);
+            for (Type type : VALUES) {
+                if (type.name().equals(name)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the bit that stands for this client type in a mask of client types.
+         */
+        public int getMask() {
+            return 1 << ordinal();
+        }
+    }
+
+    private final Type type;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,26 +53,18 @@ public class ClientTag extends SpecialTag {
     public ClientTag(String tagName) {
         super(tagName);
         checkArgument(isValidClientTagName(tagName), MESSAGE_CONSTRAINTS);
-        // only setRisk after we are sure that tagName is valid
-        this.type = setClient(tagName);
+        this.type = Type.fromName(tagName);
     }
 
+    /**
+     * Returns the client type as 1 for current and 2 for potential clients.
+     */
     public int getType() {
-        return this.type;
+        return type.ordinal() + 1;
     }
 
-    public int setClient(String tagName) {
-        switch (tagName) {
-
-        case CURRENT:
-            return this.type = 1;
-
-        case POTENTIAL:
-            return this.type = 2;
-
-        default:
-            return this.type = 0;
-        }
+    public Type getClientType() {
+        return type;
     }
 
     /**
@@ -59,13 +81,13 @@ public class ClientTag extends SpecialTag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidClientTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Type.fromName(test) != null;
     }
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ClientTag // instanceof handles nulls
-                && tagName.equals(((ClientTag) other).tagName)); // state check
+                && type == ((ClientTag) other).type); // state check
     }
 
 }
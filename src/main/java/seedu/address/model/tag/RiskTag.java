@@ -1,10 +1,11 @@
 package seedu.address.model.tag;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a RiskTag in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidRiskTagName(String)}
  */
 public class RiskTag extends SpecialTag {
 
@@ -14,7 +15,36 @@ public class RiskTag extends SpecialTag {
     public static final String LOW = "LOW";
     public static final String MEDIUM = "MEDIUM";
 
-    private int risk;
+    /**
+     * The risk appetites a client can have, from lowest to highest.
+     */
+    public enum Risk {
+        LOW, MEDIUM, HIGH;
+
+        private static final Risk[] VALUES = values();
+
+        /**
+         * Returns the risk appetite named {@code name} exactly, or null if there is none.
+         */
+        public static Risk fromName(String name) {
+            requireNonNull(name);
+            for (Risk risk : VALUES) {
+                if (risk.name().equals(name)) {
+                    return risk;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the bit that stands for this risk appetite in a mask of risk appetites.
+         */
+        public int getMask() {
+            return 1 << ordinal();
+        }
+    }
+
+    private final Risk risk;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,29 +54,18 @@ public class RiskTag extends SpecialTag {
     public RiskTag(String tagName) {
         super(tagName);
         checkArgument(isValidRiskTagName(tagName), MESSAGE_CONSTRAINTS);
-        // only setRisk after we are sure that tagName is valid
-        this.risk = setRisk(tagName);
+        this.risk = Risk.fromName(tagName);
     }
 
+    /**
+     * Returns the risk appetite as 1 for low, 2 for medium and 3 for high.
+     */
     public int getRisk() {
-        return this.risk;
+        return risk.ordinal() + 1;
     }
 
-    public int setRisk(String tagName) {
-        switch (tagName) {
-
-        case HIGH:
-            return this.risk = 3;
-
-        case MEDIUM:
-            return this.risk = 2;
-
-        case LOW:
-            return this.risk = 1;
-
-        default:
-            return this.risk = 0;
-        }
+    public Risk getRiskLevel() {
+        return risk;
     }
 
     /**
@@ -64,13 +83,13 @@ public class RiskTag extends SpecialTag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidRiskTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Risk.fromName(test) != null;
     }
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RiskTag // instanceof handles nulls
-                && tagName.equals(((RiskTag) other).tagName)); // state check
+                && risk == ((RiskTag) other).risk); // state check
     }
 
 }
@@ -0,0 +1,138 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Interns tags so that all the tags with the same name and type share one instance.
+ *
+ * There are only a few risk levels, client types and plans, and most normal tags are shared by many persons, so
+ * persons built from parsed commands, saved data or sample data all refer to the same few tag objects instead of
+ * holding a copy each. Tags are immutable, so sharing them is safe.
+ * Tags are only held weakly, so a tag that no person refers to any more is forgotten.
+ */
+public final class TagRegistry {
+    private static final Interner<RiskTag> RISK_TAGS = new Interner<>(RiskTag::new);
+    private static final Interner<PlanTag> PLAN_TAGS = new Interner<>(PlanTag::new);
+    private static final Interner<ClientTag> CLIENT_TAGS = new Interner<>(ClientTag::new);
+    private static final Interner<NormalTag> NORMAL_TAGS = new Interner<>(NormalTag::new);
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the risk tag named {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid risk tag name.
+     */
+    public static RiskTag getRiskTag(String tagName) {
+        return RISK_TAGS.intern(tagName);
+    }
+
+    /**
+     * Returns the plan tag named {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid plan tag name.
+     */
+    public static PlanTag getPlanTag(String tagName) {
+        return PLAN_TAGS.intern(tagName);
+    }
+
+    /**
+     * Returns the client tag named {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid client tag name.
+     */
+    public static ClientTag getClientTag(String tagName) {
+        return CLIENT_TAGS.intern(tagName);
+    }
+
+    /**
+     * Returns the normal tag named {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static NormalTag getNormalTag(String tagName) {
+        return NORMAL_TAGS.intern(tagName);
+    }
+
+    /**
+     * Returns the number of distinct tags interned and still referred to.
+     */
+    public static int size() {
+        return RISK_TAGS.size() + PLAN_TAGS.size() + CLIENT_TAGS.size() + NORMAL_TAGS.size();
+    }
+
+    /**
+     * Forgets all the tags interned so far, so that tests start from an empty registry.
+     * Tags returned before stay valid, but are no longer the instances returned for their names.
+     */
+    public static void clear() {
+        RISK_TAGS.clear();
+        PLAN_TAGS.clear();
+        CLIENT_TAGS.clear();
+        NORMAL_TAGS.clear();
+    }
+
+    /**
+     * Interns the tags of one type, holding each of them weakly.
+     */
+    private static class Interner<T extends Tag> {
+        private final Function<String, T> constructor;
+        // Guarded by this
+        private final Map<String, NamedReference<T>> tags = new HashMap<>();
+        private final ReferenceQueue<T> clearedTags = new ReferenceQueue<>();
+
+        private Interner(Function<String, T> constructor) {
+            this.constructor = constructor;
+        }
+
+        private synchronized T intern(String tagName) {
+            requireNonNull(tagName);
+            removeClearedTags();
+            NamedReference<T> reference = tags.get(tagName);
+            T tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                // constructed before being put in the map, so that invalid names throw without being interned
+                tag = constructor.apply(tagName);
+                tags.put(tagName, new NamedReference<>(tagName, tag, clearedTags));
+            }
+            return tag;
+        }
+
+        private synchronized int size() {
+            removeClearedTags();
+            return tags.size();
+        }
+
+        private synchronized void clear() {
+            tags.clear();
+            removeClearedTags();
+        }
+
+        private void removeClearedTags() {
+            Object cleared;
+            while ((cleared = clearedTags.poll()) != null) {
+                NamedReference<?> reference = (NamedReference<?>) cleared;
+                // the name may have been interned again since, under a new reference
+                tags.remove(reference.tagName, reference);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a tag, which remembers the name it was interned under.
+     */
+    private static class NamedReference<T> extends WeakReference<T> {
+        private final String tagName;
+
+        private NamedReference(String tagName, T tag, ReferenceQueue<T> queue) {
+            super(tag, queue);
+            this.tagName = tagName;
+        }
+    }
+}
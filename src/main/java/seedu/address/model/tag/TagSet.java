@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, stored as an array in order of tag name.
+ *
+ * Persons only have a handful of tags each, so a plain array takes a fraction of the memory of a {@code HashSet}
+ * and is as quick to search. Iteration is in order of tag name.
+ *
+ * @param <T> the type of the tags in the set.
+ */
+public class TagSet<T extends Tag> extends AbstractSet<T> {
+    private static final TagSet<?> EMPTY = new TagSet<>(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a set of the distinct tags in {@code tags}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Tag> TagSet<T> of(Collection<? extends T> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet<T>) tags;
+        }
+        if (tags.isEmpty()) {
+            return (TagSet<T>) EMPTY;
+        }
+        Tag[] distinctTags = new LinkedHashSet<>(tags).toArray(new Tag[0]);
+        Arrays.sort(distinctTags, Comparator.comparing(tag -> tag.tagName));
+        return new TagSet<>(distinctTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        for (Tag tag : tags) {
+            if (tag.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+}
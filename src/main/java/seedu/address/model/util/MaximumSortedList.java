@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.util.exceptions.SortedListException;
 
@@ -53,6 +54,20 @@ public class MaximumSortedList<T extends Comparable<T>> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Adds a listener that is notified whenever an element is added to or removed from this list.
+     */
+    public void addListener(ListChangeListener<? super T> listener) {
+        internalMaximumSortedList.addListener(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addListener(ListChangeListener)}.
+     */
+    public void removeListener(ListChangeListener<? super T> listener) {
+        internalMaximumSortedList.removeListener(listener);
+    }
+
     /**
      * Adds the specified element to the list according to the sorted order.
      *
@@ -64,8 +79,7 @@ public class MaximumSortedList<T extends Comparable<T>> {
         if (internalMaximumSortedList.size() >= maxSize || contains(t)) {
             return false;
         }
-        internalMaximumSortedList.add(t);
-        sort();
+        internalMaximumSortedList.add(getInsertionIndex(t), t);
         return true;
     }
 
@@ -179,8 +193,22 @@ public class MaximumSortedList<T extends Comparable<T>> {
         return -1;
     }
 
-    private void sort() {
-        internalMaximumSortedList.sort(T::compareTo);
+    /**
+     * Returns the index after every element that is not greater than {@code t}, so that inserting {@code t} there
+     * keeps the list sorted with a single change.
+     */
+    private int getInsertionIndex(T t) {
+        int low = 0;
+        int high = internalMaximumSortedList.size();
+        while (low < high) {
+            int mid = low + (high - low) / 2;
+            if (internalMaximumSortedList.get(mid).compareTo(t) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
     }
 
     @Override
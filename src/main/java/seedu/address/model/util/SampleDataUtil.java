@@ -1,5 +1,9 @@
 package seedu.address.model.util;
 
+import static seedu.address.model.tag.TagRegistry.getClientTag;
+import static seedu.address.model.tag.TagRegistry.getPlanTag;
+import static seedu.address.model.tag.TagRegistry.getRiskTag;
+
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,10 +17,8 @@ import seedu.address.model.person.Monthly;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
-import seedu.address.model.tag.PlanTag;
-import seedu.address.model.tag.RiskTag;
+import seedu.address.model.tag.TagRegistry;
 
 
 /**
@@ -27,27 +29,27 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"), new Income("3000"),
-                        new Monthly("200"), new RiskTag("HIGH"), new PlanTag("Savings Plan"),
-                    new ClientTag("POTENTIAL"), getTagSet("friends")),
+                        new Monthly("200"), getRiskTag("HIGH"), getPlanTag("Savings Plan"),
+                    getClientTag("POTENTIAL"), getTagSet("friends")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), new Income("30000"),
-                    new Monthly("100"), new RiskTag("LOW"), new PlanTag("Savings Plan"),
-                    new ClientTag("CURRENT"), getTagSet("colleagues", "friends")),
+                    new Monthly("100"), getRiskTag("LOW"), getPlanTag("Savings Plan"),
+                    getClientTag("CURRENT"), getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), new Income("1000000"),
-                    new Monthly("400"), new RiskTag("MEDIUM"), new PlanTag("Savings Plan"),
-                    new ClientTag("POTENTIAL"), getTagSet("neighbours")),
+                    new Monthly("400"), getRiskTag("MEDIUM"), getPlanTag("Savings Plan"),
+                    getClientTag("POTENTIAL"), getTagSet("neighbours")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), new Income("1"),
-                    new Monthly("100"), new RiskTag("HIGH"), new PlanTag("Savings Plan"),
-                    new ClientTag("CURRENT"), getTagSet("family")),
+                    new Monthly("100"), getRiskTag("HIGH"), getPlanTag("Savings Plan"),
+                    getClientTag("CURRENT"), getTagSet("family")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"), new Income("20000"),
-                    new Monthly("300"), new RiskTag("LOW"), new PlanTag("Savings Plan"),
-                    new ClientTag("CURRENT"), getTagSet("classmates")),
+                    new Monthly("300"), getRiskTag("LOW"), getPlanTag("Savings Plan"),
+                    getClientTag("CURRENT"), getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"), new Income("40000"), new Monthly("250"),
-                new RiskTag("HIGH"), new PlanTag("Savings Plan"), new ClientTag("POTENTIAL"),
+                getRiskTag("HIGH"), getPlanTag("Savings Plan"), getClientTag("POTENTIAL"),
                     getTagSet("colleagues"))
         };
     }
@@ -65,7 +67,7 @@ public class SampleDataUtil {
      */
     public static Set<NormalTag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(NormalTag::new)
+                .map(TagRegistry::getNormalTag)
                 .collect(Collectors.toSet());
     }
 }
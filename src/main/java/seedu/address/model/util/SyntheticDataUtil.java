@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import static seedu.address.model.tag.TagRegistry.getClientTag;
+import static seedu.address.model.tag.TagRegistry.getNormalTag;
+import static seedu.address.model.tag.TagRegistry.getPlanTag;
+import static seedu.address.model.tag.TagRegistry.getRiskTag;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.DateTime;
+import seedu.address.model.appointment.Location;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Monthly;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.ClientTag;
+import seedu.address.model.tag.NormalTag;
+import seedu.address.model.tag.RiskTag;
+
+/**
+ * Generates address books of any size with realistic looking persons, for benchmarks and load testing.
+ * The same seed always generates the same persons, in the same order.
+ */
+public class SyntheticDataUtil {
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ling", "Kumar", "Mei", "Jun Jie", "Priya", "Ahmad", "Hui Min", "Rajesh", "Nurul", "Marcus", "Li Ting",
+        "Daniel", "Aisyah", "Ethan", "Shu Fen", "Vikram", "Farah", "Jonathan"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Lee", "Goh", "Chua", "Koh", "Teo", "Ong", "Rahman", "Pillai", "Chong", "Low"};
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens", "Ang Mo Kio Street",
+        "Tampines Street", "Aljunied Street", "Jurong West Street", "Bedok North Road", "Clementi Avenue",
+        "Woodlands Drive", "Toa Payoh Lorong"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.com", "inbox.sg", "company.com.sg"};
+    private static final String[] PLAN_TAGS = {"Savings Plan", "Retirement Plan", "Education Plan", "Health Plan",
+        "Life Plan", "Investment Plan"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates", "vip",
+        "referral", "golf", "church", "gym"};
+    private static final String[] LOCATIONS = {"Starbucks Raffles Place", "NUS Central Library", "Office",
+        "Client's home", "Toa Payoh Hub", "Jewel Changi Airport"};
+
+    private static final LocalDateTime FIRST_APPOINTMENT = LocalDateTime.of(2023, 1, 2, 9, 0);
+    private static final int APPOINTMENT_DAYS = 365;
+    private static final int APPOINTMENT_HOURS = 9;
+    private static final long MEDIAN_INCOME = 60000;
+    private static final int MAXIMUM_NUM_OF_TAGS = 5; // as enforced by the add and edit commands
+
+    private final Random random;
+    private final Set<String> usedNames = new HashSet<>();
+    private int generatedCount = 0;
+
+    /**
+     * Creates a generator whose persons are determined by {@code seed}.
+     */
+    public SyntheticDataUtil(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns an address book of {@code count} persons generated from {@code seed}.
+     */
+    public static AddressBook getAddressBook(int count, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new SyntheticDataUtil(seed).getPersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the next {@code count} persons. Persons never share a name with a person generated before.
+     */
+    public List<Person> getPersons(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Number of persons cannot be negative.");
+        }
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the next person.
+     */
+    public Person getPerson() {
+        int index = generatedCount++;
+        String firstName = pick(FIRST_NAMES);
+        String lastName = pick(LAST_NAMES);
+        String name = firstName + " " + lastName;
+        if (!usedNames.add(name)) {
+            // names may only contain letters, so the index is spelt out in letters to keep names unique
+            name = name + " " + toLetters(index);
+            usedNames.add(name);
+        }
+
+        Phone phone = new Phone((random.nextInt(4) == 0 ? "6" : random.nextBoolean() ? "8" : "9")
+                + String.format("%07d", random.nextInt(10000000)));
+        Email email = new Email((firstName + "." + lastName).replace(" ", "").toLowerCase() + index + "@"
+                + pick(EMAIL_DOMAINS));
+        Address address = new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " "
+                + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d", 1 + random.nextInt(25),
+                1 + random.nextInt(150)));
+
+        // incomes are log-normally distributed around the median, and savings are a small share of income
+        long income = Math.round(MEDIAN_INCOME * Math.exp(0.6 * random.nextGaussian()) / 100) * 100;
+        long monthly = Math.round(income * (0.02 + 0.1 * random.nextDouble()) / 12 / 10) * 10;
+
+        Set<NormalTag> tags = new HashSet<>();
+        for (int i = skewedCount(MAXIMUM_NUM_OF_TAGS); i > 0; i--) {
+            tags.add(getNormalTag(pick(TAGS)));
+        }
+
+        Person person = new Person(new Name(name), phone, email, address, new Income(income),
+                new Monthly(monthly), getRiskTag(pickRisk()), getPlanTag(pick(PLAN_TAGS)),
+                getClientTag(random.nextInt(5) < 2 ? ClientTag.CURRENT : ClientTag.POTENTIAL), tags);
+        for (int i = skewedCount(Person.MAXIMUM_NUM_OF_APPOINTMENTS); i > 0; i--) {
+            LocalDateTime dateTime = FIRST_APPOINTMENT.plusDays(random.nextInt(APPOINTMENT_DAYS))
+                    .plusHours(random.nextInt(APPOINTMENT_HOURS)).plusMinutes(30 * random.nextInt(2));
+            person.getAppointments().add(new Appointment(new DateTime(dateTime), new Location(pick(LOCATIONS))));
+        }
+        return person;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /** Returns medium risk for half of all persons, and low risk more often than high risk. */
+    private String pickRisk() {
+        int roll = random.nextInt(10);
+        return roll < 5 ? RiskTag.MEDIUM : roll < 8 ? RiskTag.LOW : RiskTag.HIGH;
+    }
+
+    /** Returns a number from 0 to {@code max}, with each number about half as likely as the one before. */
+    private int skewedCount(int max) {
+        int count = 0;
+        while (count < max && random.nextBoolean()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+}
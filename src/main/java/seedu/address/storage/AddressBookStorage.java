@@ -42,4 +42,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits for any saves that are still in progress to be written out.
+     * Storages that save synchronously have nothing to wait for.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook() throws IOException {}
+
+    /**
+     * Reports a save that failed after it returned, without waiting for saves that are still in progress.
+     * Storages that save synchronously report failures from the save itself, and have nothing to report here.
+     * @throws IOException if a save failed in the background since it was last reported.
+     */
+    default void checkAddressBookSaved() throws IOException {}
+
 }
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookFileFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Snapshots are read by mapping them into memory, and a json file found in place of a snapshot is read as json.
+ *
+ * The format the address book was last saved in is recorded in a format file next to the json file, which is
+ * rewritten only when the format changes. If there is no snapshot yet, or the json file was saved last, the address
+ * book is read from the json file instead, so that switching to this format keeps the existing data.
+ * {@link #exportToJsonIfNewer} does the same when switching back to json.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    /** Appended to the json file path to locate the file that records the format saved last. */
+    public static final String FORMAT_FILE_SUFFIX = ".format";
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    /** Reads the json file that the snapshot replaces, replaying its journal if there is one. */
+    private final JournalAddressBookStorage jsonStorage;
+    private final MappedAddressBookReader reader = new MappedAddressBookReader();
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps its snapshot at {@code filePath},
+     * falling back to the json file at {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = requireNonNull(filePath);
+        this.jsonStorage = new JournalAddressBookStorage(requireNonNull(jsonFilePath));
+    }
+
+    /**
+     * Returns the location of the binary snapshot that replaces the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the location of the file that records the format the json file at {@code jsonFilePath}, or the
+     * snapshot that replaces it, was last saved in.
+     */
+    public static Path getFormatFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + FORMAT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Rewrites the json address book of {@code jsonStorage} from the binary snapshot that replaces it, if the
+     * snapshot was saved last, so that switching back from the binary format keeps the data saved since.
+     * Records the json format as the one saved last, so that switching to the binary format again reads the json
+     * address book.
+     *
+     * @return true if the json address book was rewritten.
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     * @throws IOException if there was any problem reading the snapshot or writing the json address book.
+     */
+    public static boolean exportToJsonIfNewer(AddressBookStorage jsonStorage)
+            throws DataConversionException, IOException {
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        Path binaryFilePath = getBinaryFilePath(jsonFilePath);
+        if (!Files.exists(binaryFilePath)) {
+            return false;
+        }
+        if (getLastSavedFormat(jsonFilePath, binaryFilePath) == AddressBookFileFormat.JSON) {
+            recordLastSavedFormat(jsonFilePath, AddressBookFileFormat.JSON);
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = new MappedAddressBookReader().read(binaryFilePath);
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        logger.info("Binary file " + binaryFilePath + " saved last, converting it to json in " + jsonFilePath);
+        jsonStorage.saveAddressBook(addressBook.get());
+        recordLastSavedFormat(jsonFilePath, AddressBookFileFormat.JSON);
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if there was any problem reading the json file that the snapshot replaces.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return filePath.equals(this.filePath) ? jsonStorage.readAddressBook() : Optional.empty();
+        }
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        if (filePath.equals(this.filePath)
+                && getLastSavedFormat(jsonFilePath, filePath) == AddressBookFileFormat.JSON) {
+            logger.info("Json file " + jsonFilePath + " saved last, reading it instead of " + filePath);
+            return jsonStorage.readAddressBook();
+        }
+        return reader.read(filePath);
+    }
+
+    /**
+     * Returns the format the json file at {@code jsonFilePath}, or the snapshot at {@code binaryFilePath} that
+     * replaces it, was last saved in. Without a record of it, the snapshot is assumed to be saved last only if
+     * there is no json file, as json is the format the address book starts out in.
+     */
+    private static AddressBookFileFormat getLastSavedFormat(Path jsonFilePath, Path binaryFilePath)
+            throws IOException {
+        Path formatFilePath = getFormatFilePath(jsonFilePath);
+        if (Files.exists(formatFilePath)) {
+            String format = FileUtil.readFromFile(formatFilePath).trim();
+            try {
+                return AddressBookFileFormat.valueOf(format);
+            } catch (IllegalArgumentException iae) {
+                logger.warning("Unknown address book format " + format + " in " + formatFilePath + ", ignoring it");
+            }
+        }
+        return Files.exists(binaryFilePath) && !Files.exists(jsonFilePath)
+                ? AddressBookFileFormat.BINARY
+                : AddressBookFileFormat.JSON;
+    }
+
+    /**
+     * Records {@code format} as the format the json file at {@code jsonFilePath}, or the snapshot that replaces it,
+     * was last saved in. The record is only written if it changes.
+     */
+    private static void recordLastSavedFormat(Path jsonFilePath, AddressBookFileFormat format) throws IOException {
+        Path formatFilePath = getFormatFilePath(jsonFilePath);
+        if (Files.exists(formatFilePath) && FileUtil.readFromFile(formatFilePath).trim().equals(format.name())) {
+            return;
+        }
+        FileUtil.writeToFile(formatFilePath, format.name());
+    }
+
+    /**
+     * Returns the time taken by the last read of a file, in nanoseconds.
+     */
+    public long getLastLoadNanos() {
+        return reader.getLastLoadNanos();
+    }
+
+    /**
+     * Returns the number of bytes decoded by the last read of a file.
+     */
+    public long getLastBytesTouched() {
+        return reader.getLastBytesTouched();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, BinarySerializableAddressBook.toBytes(addressBook));
+        if (filePath.equals(this.filePath)) {
+            // recorded after the snapshot is written, so that a failed save leaves the json file to be read
+            recordLastSavedFormat(jsonStorage.getAddressBookFilePath(), AddressBookFileFormat.BINARY);
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.DateTime;
+import seedu.address.model.appointment.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.NormalTag;
+import seedu.address.model.util.MaximumSortedList;
+
+/**
+ * Converts an AddressBook to and from a compact binary snapshot.
+ *
+ * A snapshot consists of the magic bytes {@code FAPB}, a format version, a table of every distinct string in the
+ * address book, and then the persons. Each person refers to its field values by their position in the string
+ * table, so repeated values such as tags and plan names are stored once. Income and monthly amounts, which are
+ * mostly distinct, are unsigned varints instead. All counts and positions are unsigned varints, and appointment
+ * date times are zigzag varints of minutes since the epoch in UTC.
+ * Field values are validated the same way as in the json format when read back. Snapshots of version 1, which
+ * stored the amounts in the string table, can still be read.
+ */
+class BinarySerializableAddressBook {
+
+    public static final int VERSION = 2;
+    public static final String MESSAGE_NOT_SNAPSHOT = "Not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book snapshot version: %d";
+    public static final String MESSAGE_CORRUPTED = "Address book snapshot is corrupted.";
+
+    private static final byte[] MAGIC = {'F', 'A', 'P', 'B'};
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int VERSION_WITH_STRING_AMOUNTS = 1;
+    private static final int PERSON_FIELD_COUNT = 9;
+    private static final int INCOME_FIELD = 4;
+    private static final int MONTHLY_FIELD = 5;
+
+    private BinarySerializableAddressBook() {} // prevents instantiation
+
+    /**
+     * Returns the binary snapshot of {@code source}.
+     */
+    public static byte[] toBytes(ReadOnlyAddressBook source) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream persons = new ByteArrayOutputStream();
+        writeVarInt(persons, source.getPersonList().size());
+        for (Person person : source.getPersonList()) {
+            // same field values, in the same order, as JsonAdaptedPerson
+            for (String field : Arrays.asList(person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, person.getAddress().value)) {
+                writeString(persons, stringTable, field);
+            }
+            writeVarLong(persons, person.getIncome().value);
+            writeVarLong(persons, person.getMonthly().value);
+            for (String field : Arrays.asList(person.getRiskTag().tagName, person.getPlanTag().tagName,
+                    person.getClientTag().tagName)) {
+                writeString(persons, stringTable, field);
+            }
+
+            writeVarInt(persons, person.getTags().size());
+            for (NormalTag tag : person.getTags()) {
+                writeString(persons, stringTable, tag.tagName);
+            }
+
+            writeVarInt(persons, person.getAppointments().size());
+            person.getAppointments().forEach(appointment -> {
+                long epochMinute = Math.floorDiv(appointment.getDateTime().getLocalDateTime()
+                        .toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+                writeVarLong(persons, (epochMinute << 1) ^ (epochMinute >> 63));
+                writeString(persons, stringTable, appointment.getLocation().value);
+            });
+        }
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream(persons.size() + 1024);
+        snapshot.write(MAGIC, 0, MAGIC.length);
+        writeVarInt(snapshot, VERSION);
+        writeVarInt(snapshot, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(UTF_8);
+            writeVarInt(snapshot, bytes.length);
+            snapshot.write(bytes, 0, bytes.length);
+        }
+        byte[] body = persons.toByteArray();
+        snapshot.write(body, 0, body.length);
+        return snapshot.toByteArray();
+    }
+
+    /**
+     * Returns true if {@code buffer} holds a binary snapshot from its current position.
+     * The position of {@code buffer} is left unchanged.
+     */
+    public static boolean isSnapshot(ByteBuffer buffer) {
+        if (buffer.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the binary snapshot in {@code buffer}, from its current position, into the model's {@code AddressBook}.
+     * The position of {@code buffer} is left at the end of the snapshot.
+     *
+     * @throws IOException if {@code buffer} does not hold a snapshot of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook toModelType(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (!isSnapshot(buffer)) {
+                throw new IOException(MESSAGE_NOT_SNAPSHOT);
+            }
+            buffer.position(buffer.position() + MAGIC.length);
+            int version = readVarInt(buffer);
+            if (version != VERSION && version != VERSION_WITH_STRING_AMOUNTS) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] stringTable = new String[readCount(buffer)];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = new String(readBytes(buffer, new byte[readCount(buffer)]), UTF_8);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount(buffer);
+            for (int position = 1; position <= personCount; position++) {
+                Person person;
+                try {
+                    person = readPerson(buffer, stringTable, version);
+                } catch (IllegalValueException ive) {
+                    throw new IllegalValueException(String.format(
+                            JsonSerializableAddressBook.MESSAGE_ILLEGAL_PERSON_FORMAT, position, ive.getMessage()),
+                            ive);
+                }
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(String.format(
+                            JsonSerializableAddressBook.MESSAGE_ILLEGAL_PERSON_FORMAT, position,
+                            JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, String[] stringTable, int version) throws IOException,
+            IllegalValueException {
+        String[] fields = new String[PERSON_FIELD_COUNT];
+        for (int i = 0; i < fields.length; i++) {
+            boolean isAmount = i == INCOME_FIELD || i == MONTHLY_FIELD;
+            // amounts are validated as strings, like every other field, so an out of range amount is reported
+            fields[i] = isAmount && version != VERSION_WITH_STRING_AMOUNTS
+                    ? Long.toUnsignedString(readVarLong(buffer))
+                    : stringTable[readVarInt(buffer)];
+        }
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        int tagCount = readCount(buffer);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(stringTable[readVarInt(buffer)]));
+        }
+
+        Person person = new JsonAdaptedPerson(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5],
+                fields[6], fields[7], fields[8], tags, null).toModelType();
+
+        MaximumSortedList<Appointment> appointments = person.getAppointments();
+        int appointmentCount = readCount(buffer);
+        for (int i = 0; i < appointmentCount; i++) {
+            long zigzag = readVarLong(buffer);
+            long epochMinute = (zigzag >>> 1) ^ -(zigzag & 1);
+            String location = stringTable[readVarInt(buffer)];
+            if (!Location.isValidLocation(location)) {
+                throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+            }
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(
+                    epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+            if (!appointments.add(new Appointment(new DateTime(localDateTime), new Location(location)))) {
+                throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_APPOINTMENTS);
+            }
+        }
+        return person;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, Map<String, Integer> stringTable, String string) {
+        Integer index = stringTable.get(string);
+        if (index == null) {
+            index = stringTable.size();
+            stringTable.put(string, index);
+        }
+        writeVarInt(out, index);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads a count, which cannot be larger than the number of bytes left in {@code buffer}
+     * since every counted item takes up at least one byte.
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = readVarInt(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        long value = readVarLong(buffer);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED);
+    }
+}
@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.MaximumSortedList;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with an append-only journal.
+ *
+ * Each save appends a single line to the journal recording only the persons that were added, edited or deleted
+ * since the previous save, instead of rewriting the whole snapshot. The journal is compacted into the snapshot
+ * once it holds {@code compactionThreshold} records, or whenever a save cannot be expressed as a small delta
+ * (e.g. after the persons were sorted or most of them changed). Reading replays the journal on top of the snapshot.
+ *
+ * The journal starts with a checksum of the snapshot its records apply to. A compaction writes the new snapshot
+ * before deleting the journal, so if it is cut short in between, the journal left behind no longer matches the
+ * snapshot and is ignored, rather than replaying older changes over newer ones.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    /** Starts the first line of a journal, which holds the checksum of the snapshot its records apply to. */
+    public static final String JOURNAL_HEADER_PREFIX = "# snapshot ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    private int journalRecordCount = 0;
+    /** The checksum of the snapshot as of the last save or read, or null if there was no snapshot. */
+    private String snapshotChecksum = null;
+    /** Whether the journal was left behind by an interrupted compaction, and must not be appended to. */
+    private boolean isJournalStale = false;
+    /** The persons as of the last save or read, in order, or null if nothing has been saved or read yet. */
+    private Map<Name, PersistedPerson> persistedPersons = null;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal after {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive.");
+        }
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal kept alongside {@code filePath} if there is one.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     * @throws IOException if there was any problem reading the journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        String checksum = getChecksum(filePath);
+        Path journal = getJournalFilePath(filePath);
+        boolean hasJournal = Files.exists(journal);
+        boolean isJournalCurrent = hasJournal && isJournalOf(journal, checksum);
+        if (hasJournal && !isJournalCurrent) {
+            logger.warning("Ignoring journal " + journal + ", which does not belong to the snapshot " + filePath
+                    + " and was left behind by an interrupted compaction");
+        }
+        if (filePath.equals(getAddressBookFilePath())) {
+            snapshotChecksum = checksum;
+            isJournalStale = hasJournal && !isJournalCurrent;
+        }
+        if (!isJournalCurrent) {
+            snapshot.ifPresent(addressBook -> rememberPersisted(filePath, addressBook.getPersonList(), 0));
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        int recordCount = replayJournal(journal, persons);
+        logger.info("Replayed " + recordCount + " journal records from " + journal);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+        rememberPersisted(filePath, addressBook.getPersonList(), recordCount);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own is done as a full snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        JsonAddressBookDelta delta = persistedPersons == null ? null : computeDelta(persons);
+        if (delta != null && delta.isEmpty()) {
+            return;
+        }
+        if (delta == null || isJournalStale || snapshotChecksum == null || journalRecordCount >= compactionThreshold
+                || delta.size() > persons.size() / 2) {
+            compact(addressBook);
+            return;
+        }
+
+        StringBuilder record = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            record.append(JOURNAL_HEADER_PREFIX).append(snapshotChecksum).append(System.lineSeparator());
+        }
+        record.append(JsonUtil.toCompactJsonString(delta)).append(System.lineSeparator());
+        FileUtil.createIfMissing(journalFilePath);
+        Files.write(journalFilePath, record.toString().getBytes(UTF_8), StandardOpenOption.APPEND);
+        rememberPersisted(getAddressBookFilePath(), persons, journalRecordCount + 1);
+    }
+
+    /**
+     * Writes {@code addressBook} out as a full snapshot and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        // the journal no longer matches the new snapshot, so it is not replayed even if it cannot be deleted
+        snapshotStorage.saveAddressBook(addressBook);
+        snapshotChecksum = getChecksum(getAddressBookFilePath());
+        Files.deleteIfExists(journalFilePath);
+        isJournalStale = false;
+        rememberPersisted(getAddressBookFilePath(), addressBook.getPersonList(), 0);
+    }
+
+    /**
+     * Returns a checksum of the snapshot at {@code filePath}, or null if there is none.
+     */
+    private static String getChecksum(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Returns true if {@code journal} applies to the snapshot with {@code checksum}.
+     * Journals written before journals had a header are assumed to apply to the snapshot.
+     */
+    private static boolean isJournalOf(Path journal, String checksum) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, UTF_8)) {
+            String firstLine = reader.readLine();
+            if (firstLine == null || !firstLine.startsWith(JOURNAL_HEADER_PREFIX)) {
+                return true;
+            }
+            return firstLine.substring(JOURNAL_HEADER_PREFIX.length()).trim().equals(checksum);
+        }
+    }
+
+    /**
+     * Applies every record in {@code journal} to {@code persons} in order and returns the number of records.
+     * A malformed final record is assumed to be a write cut short by a crash and is skipped.
+     */
+    private static int replayJournal(Path journal, List<Person> persons) throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(journal, UTF_8);
+        int recordCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty() || line.startsWith(JOURNAL_HEADER_PREFIX)) {
+                continue;
+            }
+
+            JsonAddressBookDelta delta;
+            try {
+                delta = JsonUtil.fromJsonString(line, JsonAddressBookDelta.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete final record of journal " + journal + ": " + ioe);
+                    break;
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            try {
+                delta.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in record " + (i + 1) + " of " + journal + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns the changes from the last persisted persons to {@code persons},
+     * or null if the persons that were kept are no longer in the same relative order.
+     */
+    private JsonAddressBookDelta computeDelta(List<Person> persons) {
+        Set<Name> currentNames = new HashSet<>();
+        for (Person person : persons) {
+            currentNames.add(person.getName());
+        }
+
+        JsonAddressBookDelta delta = new JsonAddressBookDelta();
+        for (PersistedPerson persisted : persistedPersons.values()) {
+            if (!currentNames.contains(persisted.person.getName())) {
+                delta.addDeleted(persisted.person);
+            }
+        }
+
+        Iterator<PersistedPerson> survivors = persistedPersons.values().iterator();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            PersistedPerson persisted = persistedPersons.get(person.getName());
+            if (persisted == null) {
+                delta.addInserted(i, person);
+                continue;
+            }
+            if (nextSurvivor(survivors, currentNames) != persisted) {
+                return null;
+            }
+            if (!persisted.isUnchanged(person)) {
+                delta.addUpdated(person);
+            }
+        }
+        return delta;
+    }
+
+    private static PersistedPerson nextSurvivor(Iterator<PersistedPerson> persisted, Set<Name> currentNames) {
+        while (persisted.hasNext()) {
+            PersistedPerson next = persisted.next();
+            if (currentNames.contains(next.person.getName())) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records {@code persons} as the content of this storage's files, if {@code filePath} is this storage's own.
+     */
+    private void rememberPersisted(Path filePath, List<Person> persons, int recordCount) {
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return;
+        }
+
+        Map<Name, PersistedPerson> remembered = new LinkedHashMap<>();
+        for (Person person : persons) {
+            PersistedPerson previous = persistedPersons == null ? null : persistedPersons.get(person.getName());
+            remembered.put(person.getName(),
+                    previous != null && previous.isUnchanged(person) ? previous : new PersistedPerson(person));
+        }
+        persistedPersons = remembered;
+        journalRecordCount = recordCount;
+    }
+
+    /**
+     * A person as it was last written out. Appointments are copied as they can be changed in place.
+     * Persons are compared by value as well, so that equal copies of a person are not written out again.
+     */
+    private static class PersistedPerson {
+        private final Person person;
+        private final MaximumSortedList<Appointment> appointments;
+
+        PersistedPerson(Person person) {
+            this.person = person;
+            this.appointments = new MaximumSortedList<>(person.getAppointments());
+        }
+
+        boolean isUnchanged(Person current) {
+            return (current == person || current.equals(person)) && appointments.equals(current.getAppointments());
+        }
+    }
+}
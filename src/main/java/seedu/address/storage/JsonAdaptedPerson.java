@@ -24,6 +24,7 @@ import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.PlanTag;
 import seedu.address.model.tag.RiskTag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.util.MaximumSortedList;
 
 /**
@@ -32,6 +33,8 @@ import seedu.address.model.util.MaximumSortedList;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_APPOINTMENTS = "Person's appointments must have distinct date times, "
+            + "and there can be at most " + MAXIMUM_NUM_OF_APPOINTMENTS + " of them!";
 
     private final String name;
     private final String phone;
@@ -86,8 +89,8 @@ class JsonAdaptedPerson {
         riskTag = source.getRiskTag().tagName;
         planTag = source.getPlanTag().tagName;
         clientTag = source.getClientTag().tagName;
-        income = source.getIncome().value.substring(1);
-        monthly = source.getMonthly().value.substring(1);
+        income = String.valueOf(source.getIncome().value);
+        monthly = String.valueOf(source.getMonthly().value);
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -110,7 +113,9 @@ class JsonAdaptedPerson {
         final MaximumSortedList<Appointment> modelAppointments = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
 
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            modelAppointments.add(jsonAdaptedAppointment.toModelType());
+            if (!modelAppointments.add(jsonAdaptedAppointment.toModelType())) {
+                throw new IllegalValueException(MESSAGE_INVALID_APPOINTMENTS);
+            }
         }
 
         if (name == null) {
@@ -169,7 +174,7 @@ class JsonAdaptedPerson {
         if (!RiskTag.isValidRiskTagName(riskTag)) {
             throw new IllegalValueException(RiskTag.MESSAGE_CONSTRAINTS);
         }
-        final RiskTag modelRiskTag = new RiskTag(riskTag);
+        final RiskTag modelRiskTag = TagRegistry.getRiskTag(riskTag);
 
         if (planTag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, PlanTag.class.getSimpleName()));
@@ -177,7 +182,7 @@ class JsonAdaptedPerson {
         if (!PlanTag.isValidPlanTagName(planTag)) {
             throw new IllegalValueException(PlanTag.MESSAGE_CONSTRAINTS);
         }
-        final PlanTag modelPlanTag = new PlanTag(planTag);
+        final PlanTag modelPlanTag = TagRegistry.getPlanTag(planTag);
 
         if (clientTag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -186,7 +191,7 @@ class JsonAdaptedPerson {
         if (!ClientTag.isValidClientTagName(clientTag)) {
             throw new IllegalValueException(ClientTag.MESSAGE_CONSTRAINTS);
         }
-        final ClientTag modelClientTag = new ClientTag(clientTag);
+        final ClientTag modelClientTag = TagRegistry.getClientTag(clientTag);
 
         final Set<NormalTag> modelTags = new HashSet<>(personTags);
         Person newPerson = new Person(modelName, modelPhone, modelEmail,
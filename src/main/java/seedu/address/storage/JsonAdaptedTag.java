@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Jackson-friendly version of {@link NormalTag}.
@@ -43,7 +44,7 @@ class JsonAdaptedTag {
         if (!NormalTag.isValidNormalTagName(tagName)) {
             throw new IllegalValueException(NormalTag.MESSAGE_CONSTRAINTS);
         }
-        return new NormalTag(tagName);
+        return TagRegistry.getNormalTag(tagName);
     }
 
 }
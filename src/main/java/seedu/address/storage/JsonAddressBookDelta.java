@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of the changes made to an address book between two saves.
+ * Persons are identified by name, so a renamed person is recorded as a deletion followed by an insertion.
+ */
+class JsonAddressBookDelta {
+
+    public static final String MESSAGE_MISSING_INSERTED_PERSON = "Journal record inserts a missing person!";
+
+    private final List<String> deleted = new ArrayList<>();
+    private final List<JsonAdaptedPerson> updated = new ArrayList<>();
+    private final List<JsonAdaptedInsertion> inserted = new ArrayList<>();
+
+    /**
+     * Constructs an empty {@code JsonAddressBookDelta}.
+     */
+    public JsonAddressBookDelta() {}
+
+    /**
+     * Constructs a {@code JsonAddressBookDelta} with the given changes.
+     */
+    @JsonCreator
+    public JsonAddressBookDelta(@JsonProperty("deleted") List<String> deleted,
+            @JsonProperty("updated") List<JsonAdaptedPerson> updated,
+            @JsonProperty("inserted") List<JsonAdaptedInsertion> inserted) {
+        if (deleted != null) {
+            this.deleted.addAll(deleted);
+        }
+        if (updated != null) {
+            this.updated.addAll(updated);
+        }
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Records that {@code person} was deleted.
+     */
+    public void addDeleted(Person person) {
+        deleted.add(person.getName().fullName);
+    }
+
+    /**
+     * Records that the details of {@code person} were changed without moving it.
+     */
+    public void addUpdated(Person person) {
+        updated.add(new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Records that {@code person} was added at {@code index}.
+     * Insertions must be recorded in ascending order of index.
+     */
+    public void addInserted(int index, Person person) {
+        inserted.add(new JsonAdaptedInsertion(index, new JsonAdaptedPerson(person)));
+    }
+
+    /**
+     * Returns the number of persons affected by this delta.
+     */
+    public int size() {
+        return deleted.size() + updated.size() + inserted.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Applies this delta to {@code persons}, the persons in the address book as of the previous save.
+     * Re-applying a delta is harmless: deletions of absent persons are ignored, and an insertion of a person
+     * that is already present replaces it instead.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded persons.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (!deleted.isEmpty()) {
+            Set<String> deletedNames = new HashSet<>(deleted);
+            persons.removeIf(person -> deletedNames.contains(person.getName().fullName));
+        }
+
+        // positions are looked up by name once per delta, rather than by scanning the list for every person
+        Map<Name, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName(), i);
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : updated) {
+            Person person = jsonAdaptedPerson.toModelType();
+            Integer position = positions.get(person.getName());
+            if (position == null) {
+                positions.put(person.getName(), persons.size());
+                persons.add(person);
+            } else {
+                persons.set(position, person);
+            }
+        }
+
+        // persons already present are replaced in place, and the others are added once all are known, as adding
+        // them one by one would move the persons after them
+        List<JsonAdaptedInsertion> addedInsertions = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        Map<Name, Integer> addedPositions = new HashMap<>();
+        for (JsonAdaptedInsertion insertion : inserted) {
+            if (insertion.person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_INSERTED_PERSON);
+            }
+            Person person = insertion.person.toModelType();
+            Integer position = positions.get(person.getName());
+            Integer addedPosition = addedPositions.get(person.getName());
+            if (position != null) {
+                persons.set(position, person);
+            } else if (addedPosition != null) {
+                addedPersons.set(addedPosition, person);
+            } else {
+                addedPositions.put(person.getName(), addedPersons.size());
+                addedInsertions.add(insertion);
+                addedPersons.add(person);
+            }
+        }
+        if (!addedPersons.isEmpty()) {
+            insertAll(persons, addedInsertions, addedPersons);
+        }
+    }
+
+    /**
+     * Adds each of {@code addedPersons} to {@code persons} at the index of the insertion at the same position of
+     * {@code insertions}, in order, in a single pass for insertions in ascending order of index.
+     */
+    private static void insertAll(List<Person> persons, List<JsonAdaptedInsertion> insertions,
+            List<Person> addedPersons) {
+        List<Person> result = new ArrayList<>(persons.size() + addedPersons.size());
+        int next = 0;
+        for (int i = 0; i < insertions.size(); i++) {
+            int index = Math.min(Math.max(insertions.get(i).index, 0), result.size() + persons.size() - next);
+            while (result.size() < index) {
+                result.add(persons.get(next++));
+            }
+            result.add(index, addedPersons.get(i));
+        }
+        result.addAll(persons.subList(next, persons.size()));
+        persons.clear();
+        persons.addAll(result);
+    }
+
+    /**
+     * Jackson-friendly record of a person added at a given position of the person list.
+     */
+    static class JsonAdaptedInsertion {
+        private final int index;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs a {@code JsonAdaptedInsertion} with the given position and person.
+         */
+        @JsonCreator
+        public JsonAdaptedInsertion(@JsonProperty("index") int index,
+                @JsonProperty("person") JsonAdaptedPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -22,9 +25,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isParallelConversion;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that converts the persons it reads concurrently
+     * if {@code isParallelConversion}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isParallelConversion) {
         this.filePath = filePath;
+        this.isParallelConversion = isParallelConversion;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +51,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed, so persons are added to the model as they are read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,14 +59,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        long startTime = System.nanoTime();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toModelType(parser, isParallelConversion);
+            logger.fine("Loaded " + addressBook.getPersonList().size() + " persons from " + filePath + " in "
+                    + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -1,12 +1,17 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -20,6 +25,14 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected an address book object.";
+    public static final String MESSAGE_NOT_PERSON_LIST = "Expected a list of persons.";
+    public static final String MESSAGE_ILLEGAL_PERSON_FORMAT = "Person #%1$d: %2$s";
+
+    /** Number of persons read from a stream before they are converted together. */
+    static final int CONVERSION_BATCH_SIZE = 1024;
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -57,4 +70,78 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Reads an address book from {@code parser} straight into the model's {@code AddressBook} object.
+     * Persons are converted in batches of {@code CONVERSION_BATCH_SIZE} as they are read, so neither the whole file
+     * nor all the adapted persons are held in memory at once. If {@code isParallel}, the persons in a batch are
+     * validated and built concurrently in the common fork-join pool. Either way, persons are added in file order.
+     *
+     * @throws IOException if the data read is not a json address book.
+     * @throws IllegalValueException if there were any data constraints violated. The message identifies the
+     *     position in the file of the first person that violates them.
+     */
+    public static AddressBook toModelType(JsonParser parser, boolean isParallel)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_PERSON_LIST);
+            }
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_PERSON_LIST);
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    addPersons(addressBook, batch, isParallel);
+                    batch.clear();
+                }
+            }
+            addPersons(addressBook, batch, isParallel);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code batch} into persons and adds them to {@code addressBook} in order.
+     */
+    private static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> batch, boolean isParallel)
+            throws IllegalValueException {
+        Person[] persons = new Person[batch.size()];
+        IllegalValueException[] failures = new IllegalValueException[batch.size()];
+        IntStream indices = IntStream.range(0, batch.size());
+        (isParallel ? indices.parallel() : indices).forEach(i -> {
+            try {
+                persons[i] = batch.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        int firstPosition = addressBook.getPersonList().size() + 1;
+        for (int i = 0; i < persons.length; i++) {
+            if (failures[i] != null) {
+                throw new IllegalValueException(String.format(MESSAGE_ILLEGAL_PERSON_FORMAT,
+                        firstPosition + i, failures[i].getMessage()), failures[i]);
+            }
+            if (addressBook.hasPerson(persons[i])) {
+                throw new IllegalValueException(String.format(MESSAGE_ILLEGAL_PERSON_FORMAT,
+                        firstPosition + i, MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(persons[i]);
+        }
+    }
+
 }
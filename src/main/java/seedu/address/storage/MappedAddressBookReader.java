@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads address book files by mapping them into memory.
+ *
+ * A binary snapshot is decoded straight from the mapped file, so its pages are brought in by the operating system
+ * as they are decoded instead of the whole file being copied onto the heap first. Any other file is read as json.
+ * The time taken by the last read and the number of bytes it went through are kept for reporting.
+ */
+class MappedAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookReader.class);
+
+    private long lastLoadNanos = 0;
+    private long lastBytesTouched = 0;
+
+    /**
+     * Returns the address book in the file at {@code filePath}, or an empty {@code Optional} if there is no such file.
+     *
+     * @throws DataConversionException if the file is not a valid snapshot or json address book.
+     */
+    public Optional<ReadOnlyAddressBook> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyAddressBook> addressBook;
+        long fileSize;
+        long bytesTouched;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (BinarySerializableAddressBook.isSnapshot(buffer)) {
+                addressBook = Optional.of(BinarySerializableAddressBook.toModelType(buffer));
+                bytesTouched = buffer.position();
+            } else {
+                logger.info(filePath + " is not a binary snapshot, reading it as json");
+                addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+                bytesTouched = fileSize;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        lastLoadNanos = System.nanoTime() - startTime;
+        lastBytesTouched = bytesTouched;
+        logger.info(String.format("Loaded %d persons from %s in %d ms, reading %d of %d bytes",
+                addressBook.map(book -> book.getPersonList().size()).orElse(0), filePath,
+                TimeUnit.NANOSECONDS.toMillis(lastLoadNanos), bytesTouched, fileSize));
+        return addressBook;
+    }
+
+    /**
+     * Returns the time taken by the last successful read, in nanoseconds.
+     */
+    public long getLastLoadNanos() {
+        return lastLoadNanos;
+    }
+
+    /**
+     * Returns the number of bytes of the file decoded by the last successful read.
+     */
+    public long getLastBytesTouched() {
+        return lastBytesTouched;
+    }
+}
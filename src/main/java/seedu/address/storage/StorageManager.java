@@ -81,6 +81,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public void checkAddressBookSaved() throws IOException {
+        addressBookStorage.checkAddressBookSaved();
+    }
+
 
     // ================ CommandHistory methods ==============================
     @Override
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.MaximumSortedList;
+
+/**
+ * An {@code AddressBookStorage} that saves in the background through another {@code AddressBookStorage}.
+ *
+ * Saving only takes an immutable snapshot of the address book and hands it to a dedicated writer thread, so the
+ * caller does not wait for the disk. Snapshots saved while the writer is busy replace each other, so a burst of
+ * changes results in a single write of the latest data. A failed write is retried with the next save or check, and
+ * its {@code IOException} is thrown from the next call to {@link #saveAddressBook}, {@link #flushAddressBook()} or
+ * {@link #checkAddressBookSaved()}.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriteScheduled = false;
+    private IOException writeFailure = null;
+    private long coalescedSaveCount = 0;
+
+    /** Copies of the persons in the previous snapshot, by the person they were copied from. */
+    private Map<Person, Person> snapshotCopies = new IdentityHashMap<>();
+
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this.addressBookStorage = requireNonNull(addressBookStorage);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, after any pending saves have been written out.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flushAddressBook();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath} in the background.
+     *
+     * @throws IOException if a previous write failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = takeSnapshot(addressBook);
+        IOException failure;
+        synchronized (this) {
+            if (pendingSnapshots.put(filePath, snapshot) != null) {
+                coalescedSaveCount++;
+            }
+            scheduleWrite();
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until every scheduled snapshot has been written out.
+     *
+     * @throws IOException if a write failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            scheduleWrite();
+            try {
+                while (isWriteScheduled) {
+                    wait();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+            }
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Throws the failure of a write that failed since the last failure was reported, and retries the write.
+     * Writes that are still in progress are not waited for.
+     *
+     * @throws IOException if a write failed.
+     */
+    @Override
+    public void checkAddressBookSaved() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+            if (failure != null) {
+                scheduleWrite();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the number of saves that were replaced by a later save before being written out.
+     */
+    public synchronized long getCoalescedSaveCount() {
+        return coalescedSaveCount;
+    }
+
+    /**
+     * Starts the writer on the pending snapshots, unless there are none or it is already running.
+     */
+    private synchronized void scheduleWrite() {
+        if (isWriteScheduled || pendingSnapshots.isEmpty()) {
+            return;
+        }
+        isWriteScheduled = true;
+        writer.execute(this::writePendingSnapshots);
+    }
+
+    /**
+     * Writes out pending snapshots until there are none left, or until a write fails.
+     * Runs on the writer thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Map.Entry<Path, ReadOnlyAddressBook> next;
+            synchronized (this) {
+                if (pendingSnapshots.isEmpty()) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSnapshots.entrySet().iterator();
+                next = iterator.next();
+                iterator.remove();
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(next.getValue(), next.getKey());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save address book to " + next.getKey() + ": " + e);
+                synchronized (this) {
+                    writeFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    // keep the failed snapshot for the next attempt, unless a newer one has been scheduled
+                    pendingSnapshots.putIfAbsent(next.getKey(), next.getValue());
+                    isWriteScheduled = false;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable copy of {@code addressBook}.
+     * Persons are immutable apart from their appointments, so only persons are copied, and a copy is reused for as
+     * long as the appointments of the person it was copied from stay the same.
+     */
+    private ReadOnlyAddressBook takeSnapshot(ReadOnlyAddressBook addressBook) {
+        Map<Person, Person> copies = new IdentityHashMap<>();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            Person copy = snapshotCopies.get(person);
+            if (copy == null || !copy.getAppointments().equals(person.getAppointments())) {
+                copy = copyOf(person);
+            }
+            copies.put(person, copy);
+            persons.add(copy);
+        }
+        snapshotCopies = copies;
+
+        ObservableList<Person> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(persons));
+        return () -> snapshot;
+    }
+
+    private static Person copyOf(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getIncome(), person.getMonthly(), person.getRiskTag(), person.getPlanTag(),
+                person.getClientTag(), person.getTags(), new MaximumSortedList<>(person.getAppointments()));
+    }
+}
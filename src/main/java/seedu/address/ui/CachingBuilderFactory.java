@@ -0,0 +1,67 @@
+package seedu.address.ui;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.scene.image.Image;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+/**
+ * Creates the builders that {@code FXMLLoader} uses for the objects in an FXML document that have no default
+ * constructor. A single factory is shared by every {@code UiPart}, so that what it learns about each type by
+ * reflection is kept between documents.
+ *
+ * Images given only by their URL are read once, and the same {@code Image} is given to every document that uses it.
+ */
+class CachingBuilderFactory implements BuilderFactory {
+    private static final String URL_PROPERTY = "url";
+
+    private final JavaFXBuilderFactory defaultBuilderFactory = new JavaFXBuilderFactory();
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    @Override
+    public Builder<?> getBuilder(Class<?> type) {
+        if (type == Image.class) {
+            return new ImageBuilder();
+        }
+        return defaultBuilderFactory.getBuilder(type);
+    }
+
+    /**
+     * Builds an {@code Image} from the properties given to it in an FXML document.
+     */
+    private class ImageBuilder extends AbstractMap<String, Object> implements Builder<Image> {
+        private final Map<String, Object> properties = new HashMap<>();
+
+        @Override
+        public Object put(String key, Object value) {
+            return properties.put(key, value);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return properties.entrySet();
+        }
+
+        @Override
+        public Image build() {
+            Object url = properties.get(URL_PROPERTY);
+            if (url != null && properties.size() == 1) {
+                return images.computeIfAbsent(url.toString(), Image::new);
+            }
+
+            // images with any other properties are built as usual, by JavaFX's builder, which is also a map
+            @SuppressWarnings("unchecked")
+            Builder<Image> builder = (Builder<Image>) defaultBuilderFactory.getBuilder(Image.class);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> builderProperties = (Map<String, Object>) builder;
+            builderProperties.putAll(properties);
+            return builder.build();
+        }
+    }
+}
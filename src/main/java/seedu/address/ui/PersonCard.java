@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -13,10 +15,15 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.NormalTag;
+import seedu.address.model.tag.Tag;
 import seedu.address.ui.calendar.AppointmentHBox;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ *
+ * A card is kept for each cell of the person list, and is given a different {@code Person} as the list is
+ * scrolled. It reuses its tag labels, and the cells of its list of appointments, when it is.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -32,7 +39,9 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String TRANSPARENT_BACKGROUND = "-fx-background-color: transparent;";
 
-    public final Person person;
+    private final List<SpecialTagLabel> specialTagLabels = new ArrayList<>();
+    private final List<Label> tagLabels = new ArrayList<>();
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -66,19 +75,33 @@ public class PersonCard extends UiPart<Region> {
      */
     public PersonCard(Person person, int displayedIndex, PersonListPanel.PersonListViewCell owner) {
         super(FXML);
+        this.owner = owner;
+        appointments.setStyle(TRANSPARENT_BACKGROUND);
+        appointments.setCellFactory(listView -> new AppointmentListViewCell());
+        gridpane.getChildren().forEach(child -> child.setOnMousePressed(event -> handleOnMousePressed(event)));
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person}, with {@code displayedIndex}, in place of the {@code Person} shown so far.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
         this.displayedIndex = displayedIndex;
-        this.owner = owner;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        addTagLabels(person);
-        appointments.setStyle(TRANSPARENT_BACKGROUND);
+        setTagLabels(person);
         appointments.setItems(person.getAppointments().getObservableList());
-        appointments.setCellFactory(listView -> new AppointmentListViewCell());
-        gridpane.getChildren().forEach(child -> child.setOnMousePressed(event -> handleOnMousePressed(event)));
+    }
+
+    public Person getPerson() {
+        return person;
     }
 
     public void select() {
@@ -91,9 +114,12 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of an {@code Appointment} using an {@code AppointmentHBox},
+     * which is kept for as long as the cell.
      */
     class AppointmentListViewCell extends ListCell<Appointment> {
+        private AppointmentHBox appointmentHBox;
+
         protected void updateItem(Appointment appointment, boolean empty) {
             super.updateItem(appointment, empty);
 
@@ -102,20 +128,40 @@ public class PersonCard extends UiPart<Region> {
                 setText(null);
                 setStyle(TRANSPARENT_BACKGROUND);
             } else {
-                setGraphic(new AppointmentHBox(getIndex() + 1, appointment).getRoot());
+                if (appointmentHBox == null) {
+                    appointmentHBox = new AppointmentHBox(getIndex() + 1, appointment);
+                } else {
+                    appointmentHBox.setAppointment(getIndex() + 1, appointment);
+                }
+                setGraphic(appointmentHBox.getRoot());
                 setStyle(TRANSPARENT_BACKGROUND);
             }
         }
     }
 
-    private void addTagLabels(Person person) {
-        person.getSpecialTags().stream()
-                .forEach(tag -> specialTags.getChildren().add(new SpecialTagLabel(tag.tagName)));
-        income.setText(person.getIncome().value);
-        monthly.setText(person.getMonthly().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+    private void setTagLabels(Person person) {
+        int specialTagCount = 0;
+        for (Tag tag : person.getSpecialTags()) {
+            if (specialTagCount == specialTagLabels.size()) {
+                specialTagLabels.add(new SpecialTagLabel(tag.tagName));
+            } else {
+                specialTagLabels.get(specialTagCount).setContent(tag.tagName);
+            }
+            specialTagCount++;
+        }
+        specialTags.getChildren().setAll(specialTagLabels.subList(0, specialTagCount));
+        income.setText(person.getIncome().toString());
+        monthly.setText(person.getMonthly().toString());
+
+        List<NormalTag> sortedTags = new ArrayList<>(person.getTags());
+        sortedTags.sort(Comparator.comparing(tag -> tag.tagName));
+        for (int i = 0; i < sortedTags.size(); i++) {
+            if (i == tagLabels.size()) {
+                tagLabels.add(new Label());
+            }
+            tagLabels.get(i).setText(sortedTags.get(i).tagName);
+        }
+        tags.getChildren().setAll(tagLabels.subList(0, sortedTags.size()));
     }
 
     @Override
@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The card is created for the first {@code Person} shown by the cell, and reused for all later ones.
      */
     public class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         private PersonListViewCell() {
             personListView.getSelectionModel().selectFirst();
         }
@@ -47,7 +50,12 @@ public class PersonListPanel extends UiPart<Region> {
                 setStyle("-fx-focus-color: transparent; ");
             } else {
                 setStyle("-fx-focus-color: transparent; ");
-                setGraphic(new PersonCard(person, getIndex() + 1, this).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(person, getIndex() + 1, this);
+                } else {
+                    personCard.setPerson(person, getIndex() + 1);
+                }
+                setGraphic(personCard.getRoot());
             }
         }
 
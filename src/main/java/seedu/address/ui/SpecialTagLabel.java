@@ -32,8 +32,15 @@ public class SpecialTagLabel extends Label {
      * be displayed.
      */
     public SpecialTagLabel(String content) {
-        super(content);
+        setContent(content);
+    }
+
+    /**
+     * Displays {@code content} in place of the content displayed so far.
+     */
+    public void setContent(String content) {
         requireNonNull(content);
+        setText(content);
         switch (content) {
         case HIGH_KEYWORD:
             setLabelStyle(HIGH_COLOR);
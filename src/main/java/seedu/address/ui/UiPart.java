@@ -2,21 +2,33 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
+import javafx.util.BuilderFactory;
 import seedu.address.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ *
+ * Each FXML file is only read once, and the builders and images used to load FXML files are shared,
+ * so that UiParts that are created many times, such as list cards, are cheaper to create after the first.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /** The contents of the FXML files read so far, by URL. */
+    private static final Map<String, byte[]> FXML_DOCUMENTS = new ConcurrentHashMap<>();
+    private static final BuilderFactory BUILDER_FACTORY = new CachingBuilderFactory();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -68,13 +80,29 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
+        fxmlLoader.setBuilderFactory(BUILDER_FACTORY);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlDocument(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML file at {@code location}, which is only read the first time.
+     */
+    private static byte[] getFxmlDocument(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] fxmlDocument = FXML_DOCUMENTS.get(key);
+        if (fxmlDocument == null) {
+            try (InputStream inputStream = location.openStream()) {
+                fxmlDocument = inputStream.readAllBytes();
+            }
+            FXML_DOCUMENTS.put(key, fxmlDocument);
+        }
+        return fxmlDocument;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
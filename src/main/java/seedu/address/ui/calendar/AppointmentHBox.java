@@ -29,6 +29,13 @@ public class AppointmentHBox extends UiPart<Region> {
      */
     public AppointmentHBox(int index, Appointment appointment) {
         super(FXML);
+        setAppointment(index, appointment);
+    }
+
+    /**
+     * Displays {@code appointment} with {@code index}, in place of the {@code Appointment} displayed so far.
+     */
+    public void setAppointment(int index, Appointment appointment) {
         indexLabel.setText(String.valueOf(index));
         dateLabel.setText(appointment.getDate().toString());
         timeLabel.setText(appointment.getTimeFormat());
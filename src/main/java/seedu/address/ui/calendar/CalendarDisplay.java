@@ -1,5 +1,7 @@
 package seedu.address.ui.calendar;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -16,12 +18,16 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import seedu.address.logic.CalendarLogic;
 import seedu.address.logic.Logic;
+import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.ui.UiPart;
 
 /**
  * A UI component that displays information of a Calendar.
  */
 public class CalendarDisplay extends UiPart<Region> {
+    /** The number of days shown by the Calendar, in rows of a week below the names of the days. */
+    public static final int DAY_CELL_COUNT = 42;
+    private static final int DAYS_IN_WEEK = 7;
     private static final String FXML = "CalendarDisplay.fxml";
     private static final Insets MARGIN = new Insets(0, 50, 0, 0);
     private Stage primaryStage;
@@ -40,6 +46,7 @@ public class CalendarDisplay extends UiPart<Region> {
     private JumpBox jumpBox;
     private PreviousButton prevButton;
     private NextButton nextButton;
+    private final List<CalendarEventListPanel> dayCells = new ArrayList<>(DAY_CELL_COUNT);
 
     /**
      * Creates a Calendar with the given list of CalendarEvents.
@@ -54,7 +61,9 @@ public class CalendarDisplay extends UiPart<Region> {
         jumpBox = new JumpBox(calendarLogic);
         this.primaryStage = primaryStage;
         this.logic = logic;
+        initialiseDayCells();
         calendarLogic.initialiseLogic();
+        calendarLogic.drawDayNames();
         drawCalendar();
 
     }
@@ -88,25 +97,30 @@ public class CalendarDisplay extends UiPart<Region> {
         topCalendar.setMargin(node, MARGIN);
     }
 
-    //@@author wongyewjon
     /**
-     * Resets the calendarGrid.
+     * Fills the calendarGrid with the day cells, which are kept for the lifetime of the Calendar.
      */
-    public void resetGridPane() {
-        topCalendar.getChildren().clear();
-        Node node = calendarGrid.getChildren().get(0);
-        calendarGrid.getChildren().clear();
-        calendarGrid.getChildren().add(0, node);
+    private void initialiseDayCells() {
+        for (int cellIndex = 0; cellIndex < DAY_CELL_COUNT; cellIndex++) {
+            CalendarEventListPanel dayCell = new CalendarEventListPanel(primaryStage);
+            dayCells.add(dayCell);
+            calendarGrid.add(dayCell.getRoot(), cellIndex % DAYS_IN_WEEK, cellIndex / DAYS_IN_WEEK + 1);
+        }
+    }
+
+    /**
+     * Shows {@code day} and its {@code calendarEvents} in the day cell at {@code cellIndex}, counting the cells
+     * row by row from the top left of the Calendar.
+     */
+    public void showDay(int cellIndex, int day, List<CalendarEvent> calendarEvents) {
+        dayCells.get(cellIndex).showDay(day, calendarEvents);
     }
 
-    //@@author wongyewjon
     /**
-     * Resets the calendarGrid's body.
+     * Shows no day in the day cell at {@code cellIndex}.
      */
-    public void resetCalendarBody() {
-        Node node = calendarGrid.getChildren().get(0);
-        calendarGrid.getChildren().clear();
-        calendarGrid.getChildren().add(0, node);
+    public void clearDay(int cellIndex) {
+        dayCells.get(cellIndex).clear();
     }
 
     //@@author wongyewjon
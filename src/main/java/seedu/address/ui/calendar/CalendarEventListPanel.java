@@ -2,8 +2,13 @@ package seedu.address.ui.calendar;
 
 import static javafx.scene.paint.Color.WHITE;
 
-import javafx.collections.ObservableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
@@ -12,39 +17,68 @@ import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.ui.UiPart;
 
 /**
- * Panel containing the list of CalendarEvents.
+ * Panel containing the list of CalendarEvents of a day in the Calendar.
+ *
+ * A panel is kept for each cell of the Calendar and shows a different day every month. It is only redrawn when
+ * the day or the CalendarEvents it shows change, and it reuses its {@code EventButton}s when it is.
  */
 public class CalendarEventListPanel extends UiPart<Region> {
     private static final String FXML = "CalendarEventListPanel.fxml";
-    private ObservableList<CalendarEvent> calendarDayEvents;
-    private Stage primaryStage;
+    private static final int NO_DAY = 0;
+
+    private final Stage primaryStage;
+    private final Text tDate = new Text();
+    private final List<EventButton> eventButtons = new ArrayList<>();
+    private int shownDay = NO_DAY;
+    private List<CalendarEvent> shownCalendarEvents = Collections.emptyList();
 
     @FXML
     private VBox calendarEventList;
 
     /**
-     * Creates a {@code CalendarEventListPanel} with the given {@code ObservableList}.
+     * Creates an empty {@code CalendarEventListPanel}.
      */
-    public CalendarEventListPanel(ObservableList<CalendarEvent> calendarDayEvents,
-                                  Stage primaryStage) {
+    public CalendarEventListPanel(Stage primaryStage) {
         super(FXML);
-        this.calendarDayEvents = calendarDayEvents;
-        this.calendarEventList = new VBox();
         this.primaryStage = primaryStage;
-    }
-    public VBox getCalendarEventList(int currentDay) {
-        Text tDate = getTextDate(currentDay);
-        calendarEventList.getChildren().add(tDate);
-        calendarDayEvents.stream().sorted()
-                .forEach(x -> calendarEventList.getChildren()
-                        .add(new EventButton(x, primaryStage).getRoot()));
-        return calendarEventList;
+        tDate.setFill(WHITE);
     }
 
-    private Text getTextDate(int currentDay) {
-        Text tDate = new Text(String.valueOf(currentDay));
-        tDate.setFill(WHITE);
-        return tDate;
+    /**
+     * Shows {@code currentDay} and its {@code calendarDayEvents}, in order of time.
+     */
+    public void showDay(int currentDay, List<CalendarEvent> calendarDayEvents) {
+        List<CalendarEvent> sortedCalendarDayEvents = calendarDayEvents.stream().sorted()
+                .collect(Collectors.toList());
+        if (currentDay == shownDay && sortedCalendarDayEvents.equals(shownCalendarEvents)) {
+            return;
+        }
+
+        tDate.setText(String.valueOf(currentDay));
+        List<Node> children = new ArrayList<>(sortedCalendarDayEvents.size() + 1);
+        children.add(tDate);
+        for (int i = 0; i < sortedCalendarDayEvents.size(); i++) {
+            if (i == eventButtons.size()) {
+                eventButtons.add(new EventButton(primaryStage));
+            }
+            EventButton eventButton = eventButtons.get(i);
+            eventButton.setCalendarEvent(sortedCalendarDayEvents.get(i));
+            children.add(eventButton.getRoot());
+        }
+        calendarEventList.getChildren().setAll(children);
+        shownDay = currentDay;
+        shownCalendarEvents = sortedCalendarDayEvents;
     }
 
+    /**
+     * Shows no day, for the cells of the Calendar outside of the month.
+     */
+    public void clear() {
+        if (shownDay == NO_DAY) {
+            return;
+        }
+        calendarEventList.getChildren().clear();
+        shownDay = NO_DAY;
+        shownCalendarEvents = Collections.emptyList();
+    }
 }
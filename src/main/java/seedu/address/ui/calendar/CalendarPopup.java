@@ -14,21 +14,29 @@ import seedu.address.ui.UiPart;
 public class CalendarPopup extends UiPart<Popup> {
     private static final String FXML = "CalendarPopup.fxml";
     private final Node owner;
+    private final CalendarPopupContent calendarPopupContent = new CalendarPopupContent();
     @FXML
     private Popup popup;
 
     /**
-     * Creates a {@code CalendarPopup} with the given CalendarEvent details.
+     * Creates an empty {@code CalendarPopup} for the given {@code owner}, to be given a CalendarEvent to show.
      */
-    public CalendarPopup(CalendarEvent calendarEvent, Node owner) {
+    public CalendarPopup(Node owner) {
         super(FXML);
         this.owner = owner;
-        initialiseCalendarPopup(calendarEvent);
+        initialiseCalendarPopup();
+    }
+
+    /**
+     * Shows the details of {@code calendarEvent} in the popup.
+     */
+    public void setCalendarEvent(CalendarEvent calendarEvent) {
+        calendarPopupContent.setCalendarEvent(calendarEvent);
         popup.sizeToScene();
     }
 
-    private void initialiseCalendarPopup(CalendarEvent calendarEvent) {
-        popup.getContent().add(new CalendarPopupContent(calendarEvent).getRoot());
+    private void initialiseCalendarPopup() {
+        popup.getContent().add(calendarPopupContent.getRoot());
         popup.setAnchorLocation(PopupWindow.AnchorLocation.WINDOW_BOTTOM_LEFT);
     }
 }
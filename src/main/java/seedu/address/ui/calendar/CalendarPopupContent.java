@@ -34,10 +34,16 @@ public class CalendarPopupContent extends UiPart<Region> {
     private VBox popupVBox;
 
     /**
-     * Creates a {@code CalendarPopupContent} with the given CalendarEvent details.
+     * Creates an empty {@code CalendarPopupContent}, to be given a CalendarEvent to show.
      */
-    public CalendarPopupContent(CalendarEvent calendarEvent) {
+    public CalendarPopupContent() {
         super(FXML);
+    }
+
+    /**
+     * Shows the details of {@code calendarEvent}.
+     */
+    public void setCalendarEvent(CalendarEvent calendarEvent) {
         clientLabel.setText(calendarEvent.getName().toString());
         dateLabel.setText(calendarEvent.getDate());
         timeLabel.setText(calendarEvent.getTimeFormat());
@@ -25,18 +25,26 @@ public class EventButton extends CalendarButton {
     private Button eventButton;
 
     /**
-     * Creates a {@code EventButton} with the given Appointment details.
+     * Creates an {@code EventButton} in the given {@code Stage}, to be given a CalendarEvent to show.
      */
-    public EventButton(CalendarEvent calendarEvent, Stage primaryStage) {
+    public EventButton(Stage primaryStage) {
         super(FXML);
-        this.calendarEvent = calendarEvent;
         this.primaryStage = primaryStage;
-        this.calendarPopup = new CalendarPopup(calendarEvent, eventButton);
+        this.calendarPopup = new CalendarPopup(eventButton);
         initialiseEventButton();
     }
 
-    private void initialiseEventButton() {
+    /**
+     * Shows the details of {@code calendarEvent} on the button and in its popup.
+     */
+    public void setCalendarEvent(CalendarEvent calendarEvent) {
+        this.calendarEvent = calendarEvent;
+        calendarPopup.getRoot().hide();
         eventButton.setText(calendarEvent.getTimeFormat() + " " + calendarEvent.getName());
+        calendarPopup.setCalendarEvent(calendarEvent);
+    }
+
+    private void initialiseEventButton() {
         eventButton.focusedProperty().addListener(this::handleFocusedEvent);
         ChangeListener<Number> stageSizeListener = (observable, oldValue, newValue) -> {
             if (calendarPopup.getRoot().isShowing()) {
@@ -0,0 +1,32 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAddressBook_anyStorage_readsBackSame() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("Synthetic.json"));
+        AddressBook written = SyntheticDataGenerator.writeAddressBook(jsonStorage, 300, 1);
+        assertEquals(written, new AddressBook(jsonStorage.readAddressBook().get()));
+
+        // pending background writes are flushed before returning
+        Path binaryFile = testFolder.resolve("Synthetic.bin");
+        SyntheticDataGenerator.writeAddressBook(
+                new WriteBehindAddressBookStorage(new BinaryAddressBookStorage(binaryFile, binaryFile)), 300, 1);
+        assertEquals(written, new AddressBook(new BinaryAddressBookStorage(binaryFile, binaryFile)
+                .readAddressBook().get()));
+    }
+}
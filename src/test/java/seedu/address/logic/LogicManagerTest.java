@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -100,6 +102,68 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_addressBookUnchanged_saveSkipped() throws Exception {
+        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub, so any save would fail the command
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ioExceptioncommandHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(2, logic.getAvoidedWriteCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_throwsCommandException() {
+        // Setup LogicManager with a storage whose last background save failed
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("ioExceptionAddressBook.json")) {
+                    @Override
+                    public void checkAddressBookSaved() throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ioExceptioncommandHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        logic = new LogicManager(model, storage);
+
+        // the failure is reported even though the command itself saves nothing
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandException(ListCommand.COMMAND_WORD, expectedMessage);
+    }
+
+    @Test
+    public void execute_exitWhenFlushFails_exitsWithWarning() throws Exception {
+        // Setup LogicManager with a storage that cannot write out its saves
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("ioExceptionAddressBook.json")) {
+                    @Override
+                    public void flushAddressBook() throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ioExceptioncommandHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        logic = new LogicManager(model, storage);
+
+        CommandResult result = logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(result.isExit());
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION, result.getFeedbackToUser());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -80,6 +80,7 @@ public class AddAppointmentCommandTest {
         testModel.addPerson(new PersonBuilder().build());
         Person testPerson = testModel.getFilteredPersonList().get(0);
         testPerson.getAppointments().add(new AppointmentBuilder().build());
+        testModel.updateAppointments(testPerson);
 
         // Create addAppointmentCommand
         Appointment duplicateAppointmentToAdd = new AppointmentBuilder()
@@ -98,6 +99,7 @@ public class AddAppointmentCommandTest {
         showPersonAtIndex(testModel, INDEX_FIRST_PERSON);
         Person testPerson = testModel.getFilteredPersonList().get(0);
         testPerson.getAppointments().add(new AppointmentBuilder().build());
+        testModel.updateAppointments(testPerson);
 
         // Create addAppointmentCommand
         Appointment duplicateAppointmentToAdd = new AppointmentBuilder()
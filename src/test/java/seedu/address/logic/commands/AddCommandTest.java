@@ -26,6 +26,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindQuery;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -128,6 +130,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -143,6 +150,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAppointments(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -163,6 +175,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public QueryPlan planFindQuery(FindQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortPerson(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called");
@@ -179,12 +196,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public void addToCommandHistory(String commandInput) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateCalendarEventList() {
+        public boolean addToCommandHistory(String commandInput) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -36,6 +36,7 @@ import seedu.address.model.person.NormalTagContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.PlanTagContainsKeywordsPredicate;
 import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
+import seedu.address.model.query.FindQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -200,6 +201,27 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_query_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindQuery query = FindQuery.allOf(Arrays.asList(FindQuery.of(prepareNormalPredicate("friends")),
+                FindQuery.not(FindQuery.of(prepareRiskPredicate("HIGH")))));
+        FindCommand command = new FindCommand(query, false);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShown() throws Exception {
+        FindQuery query = FindQuery.of(prepareRiskPredicate("HIGH"), "r/high");
+        String feedback = new FindCommand(query, true).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1) + "\nPlan:\n"
+                + "bitmap r/high (about 1 of " + model.getAddressBook().getPersonList().size() + ")\n"));
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_zeroRiskTags_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
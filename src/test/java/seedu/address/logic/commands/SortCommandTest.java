@@ -45,6 +45,7 @@ public class SortCommandTest {
         int result2 = sortByAppointment.compare(MUSAB_WITH_NO_APPT, ALICE);
         int result3 = sortByIncome.compare(ALICE, AMY);
         assertEquals(1, result);
+        assertEquals(-1, sortByAppointment.compare(ELLE, MUSAB_WITH_NO_APPT));
         assertEquals(0, result2);
         assertEquals(0, result3);
     }
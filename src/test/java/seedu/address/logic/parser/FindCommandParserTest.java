@@ -47,6 +47,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.PlanTagContainsKeywordsPredicate;
 import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
+import seedu.address.model.query.FindQuery;
 import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
 import seedu.address.model.tag.PlanTag;
@@ -185,6 +186,27 @@ public class FindCommandParserTest {
                 + ">1000 \n \t 2000" , expectedFindCommand);
     }
 
+    @Test
+    public void parse_validIncomeRangeArgs_success() {
+        List<FindPredicate> predicates = new ArrayList<>();
+        predicates.add(new IncomeContainsKeywordsPredicate(Arrays.asList("50000..120000", "0..100"),
+                FindPredicate.RANGE_SEPARATOR));
+        assertParseSuccess(parser, " " + PREFIX_INCOME.getPrefix() + "50000..120000 \n 0..100",
+                new FindCommand(predicates));
+    }
+
+    @Test
+    public void parse_invalidRangeArgs_failure() {
+        // lower bound more than upper bound
+        assertParseFailure(parser, " " + PREFIX_INCOME.getPrefix() + "120000..50000",
+                ParserUtil.MESSAGE_INVALID_RANGE);
+        // ranges mixed with single values
+        assertParseFailure(parser, " " + PREFIX_MONTHLY.getPrefix() + "100..200 300",
+                ParserUtil.MESSAGE_INVALID_RANGE);
+        // invalid end of range
+        assertParseFailure(parser, " " + PREFIX_MONTHLY.getPrefix() + "100..2a0", Monthly.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_noPrefixesPresent_failure() {
         assertParseFailure(parser, "",
@@ -229,4 +251,52 @@ public class FindCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_query_success() {
+        FindQuery risk = FindQuery.of(new RiskTagContainsKeywordsPredicate(Arrays.asList("high")));
+        FindQuery client = FindQuery.of(new ClientTagContainsKeywordsPredicate(Arrays.asList("potential")));
+        FindQuery tag = FindQuery.of(new NormalTagContainsKeywordsPredicate(Arrays.asList("friends")));
+        FindQuery name = FindQuery.of(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        FindQuery expectedQuery = FindQuery.anyOf(Arrays.asList(
+                FindQuery.allOf(Arrays.asList(risk, FindQuery.not(tag))), name));
+        assertParseSuccess(parser, " " + PREFIX_RISKTAG.getPrefix() + "high AND NOT " + PREFIX_TAG.getPrefix()
+                + "friends OR " + PREFIX_NAME.getPrefix() + "Alice Bob", new FindCommand(expectedQuery, false));
+
+        // parentheses, with and without spaces around them
+        expectedQuery = FindQuery.allOf(Arrays.asList(risk, FindQuery.anyOf(Arrays.asList(client, tag))));
+        assertParseSuccess(parser, " " + PREFIX_RISKTAG.getPrefix() + "high AND (" + PREFIX_CLIENTTAG.getPrefix()
+                + "potential OR " + PREFIX_TAG.getPrefix() + "friends)", new FindCommand(expectedQuery, false));
+        assertParseSuccess(parser, " ( " + PREFIX_RISKTAG.getPrefix() + " high ) AND ( ( "
+                + PREFIX_CLIENTTAG.getPrefix() + " potential OR " + PREFIX_TAG.getPrefix() + " friends ) )",
+                new FindCommand(expectedQuery, false));
+    }
+
+    @Test
+    public void parse_explain_success() {
+        FindQuery name = FindQuery.of(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertParseSuccess(parser, " explain " + PREFIX_NAME.getPrefix() + "Alice", new FindCommand(name, true));
+        assertParseSuccess(parser, " EXPLAIN NOT " + PREFIX_NAME.getPrefix() + "Alice",
+                new FindCommand(FindQuery.not(name), true));
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        String risk = PREFIX_RISKTAG.getPrefix() + "high";
+        String client = PREFIX_CLIENTTAG.getPrefix() + "potential";
+
+        assertParseFailure(parser, " explain", expectedMessage); // nothing to explain
+        assertParseFailure(parser, " " + risk + " AND", expectedMessage); // missing operand
+        assertParseFailure(parser, " OR " + risk, expectedMessage); // missing operand
+        assertParseFailure(parser, " (" + risk, expectedMessage); // unclosed parenthesis
+        assertParseFailure(parser, " " + risk + ")", expectedMessage); // unopened parenthesis
+        assertParseFailure(parser, " ()", expectedMessage); // empty parentheses
+        assertParseFailure(parser, " " + risk + " " + client + " AND " + risk, expectedMessage); // missing operator
+        assertParseFailure(parser, " alice AND " + risk, expectedMessage); // words before a prefix
+
+        // invalid criterion in a query
+        assertParseFailure(parser, " " + risk + " AND " + INVALID_RISKTAG_DESC.trim(), RiskTag.MESSAGE_CONSTRAINTS);
+    }
 }
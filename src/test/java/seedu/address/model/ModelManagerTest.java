@@ -7,18 +7,28 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -101,6 +111,93 @@ public class ModelManagerTest {
                                                                 .getCommandHistoryList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_predicates_matchesAnyOfShownPersons() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs(), new CommandHistory());
+        Predicate<Person> isAlice = ALICE::equals;
+        Predicate<Person> isCarl = CARL::equals;
+
+        // persons matching any predicate, in address book order
+        modelManager.updateFilteredPersonList(Arrays.asList(isCarl, isAlice));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        // only the shown persons are searched
+        modelManager.updateFilteredPersonList(Arrays.asList(isCarl, BENSON::equals));
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+
+        // no predicates -> no persons
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new ArrayList<Predicate<Person>>());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        // setting a predicate drops the earlier finds
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(Arrays.asList(isAlice));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateAppointments_appointmentAddedInPlace_calendarEventShown() {
+        Person amy = new PersonBuilder().build();
+        modelManager.addPerson(amy);
+        Appointment appointment = new AppointmentBuilder().build();
+        amy.getAppointments().add(appointment);
+        assertTrue(modelManager.getFilteredCalendarEventList().isEmpty());
+
+        modelManager.updateAppointments(amy);
+        assertEquals(amy.getCalendarEvents(), modelManager.getFilteredCalendarEventList());
+        assertTrue(modelManager.hasPersonWithSameAppointmentDateTime(appointment));
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsChanged_filterKeptAndOnlyChangedPersonReported() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+        Predicate<Person> isLowRisk = new RiskTagContainsKeywordsPredicate(Arrays.asList("LOW"));
+        modelManager.updateFilteredPersonList(Arrays.asList(isLowRisk));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            assertTrue(change.next());
+            assertFalse(change.next());
+            change.reset();
+            changes.add(change);
+        });
+
+        // still matching -> replaced in place
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        Person editedAlice = new PersonBuilder(alice).withPhone("99999999").build();
+        modelManager.setPerson(alice, editedAlice);
+        assertOnlyChange(changes, true, true);
+        assertEquals(editedAlice, modelManager.getFilteredPersonList().get(0));
+
+        // no longer matching -> removed
+        modelManager.setPerson(editedAlice, new PersonBuilder(editedAlice).withRiskTag("HIGH").build());
+        assertOnlyChange(changes, false, true);
+
+        // added persons are shown only if they match
+        Person lowRisk = new PersonBuilder().withName("Low Risk").withRiskTag("LOW").build();
+        modelManager.addPerson(lowRisk);
+        assertOnlyChange(changes, true, false);
+        modelManager.addPerson(new PersonBuilder().withName("High Risk").withRiskTag("HIGH").build());
+        assertTrue(changes.isEmpty());
+
+        modelManager.deletePerson(lowRisk);
+        assertOnlyChange(changes, false, true);
+        assertEquals(modelManager.getAddressBook().getPersonList().filtered(isLowRisk),
+                modelManager.getFilteredPersonList());
+    }
+
+    private static void assertOnlyChange(List<ListChangeListener.Change<? extends Person>> changes,
+            boolean wasAdded, boolean wasRemoved) {
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.remove(0);
+        change.next();
+        assertEquals(wasAdded, change.wasAdded());
+        assertEquals(wasRemoved, change.wasRemoved());
+        assertEquals(wasAdded ? 1 : 0, change.getAddedSize());
+        assertEquals(wasRemoved ? 1 : 0, change.getRemovedSize());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,105 @@
+package seedu.address.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DATETIME_23_JAN_2023;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CalendarEventListTest {
+    private final Person elle = new PersonBuilder(ELLE).build();
+    private final Person george = new PersonBuilder(GEORGE).build();
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(
+            new PersonBuilder(ALICE).build(), elle, george);
+    private final List<ListChangeListener.Change<? extends CalendarEvent>> changes = new ArrayList<>();
+    private CalendarEventList calendarEventList;
+
+    @BeforeEach
+    public void setUp() {
+        calendarEventList = new CalendarEventList(persons);
+        calendarEventList.addListener((ListChangeListener<CalendarEvent>) changes::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CalendarEventList(null));
+    }
+
+    @Test
+    public void constructor_calendarEventsOfPersonsInOrder() {
+        assertEquals(getCalendarEvents(persons), calendarEventList);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> calendarEventList.remove(0));
+    }
+
+    @Test
+    public void personsChanged_calendarEventsFollowWithOneChangeEach() {
+        persons.add(new PersonBuilder(FIONA).build());
+        persons.remove(elle);
+        persons.set(0, new PersonBuilder(GEORGE).withName("George Tan").build());
+        persons.sort(Comparator.comparing(person -> person.getName().fullName));
+
+        assertEquals(getCalendarEvents(persons), calendarEventList);
+        assertEquals(4, changes.size());
+    }
+
+    @Test
+    public void personReplacedWithSameAppointments_noChange() {
+        persons.set(1, new PersonBuilder(elle).withPhone("91234567").build());
+
+        assertEquals(getCalendarEvents(persons), calendarEventList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void appointmentAdded_onlyNewCalendarEventReported() {
+        george.getAppointments().add(new AppointmentBuilder().withDateTime(VALID_DATETIME_23_JAN_2023).build());
+        assertTrue(changes.isEmpty());
+
+        // the appointments changed in place are picked up once the person is replaced with itself
+        persons.set(2, george);
+        assertEquals(getCalendarEvents(persons), calendarEventList);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends CalendarEvent> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertEquals(1, change.getAddedSize());
+        assertTrue(change.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void appointmentOfRemovedPersonChanged_noChange() {
+        persons.remove(george);
+        changes.clear();
+
+        george.getAppointments().add(new AppointmentBuilder().withDateTime(VALID_DATETIME_23_JAN_2023).build());
+
+        assertEquals(getCalendarEvents(persons), calendarEventList);
+        assertTrue(changes.isEmpty());
+    }
+
+    private static List<CalendarEvent> getCalendarEvents(List<Person> persons) {
+        return persons.stream().flatMap(person -> person.getCalendarEvents().stream()).collect(Collectors.toList());
+    }
+}
@@ -5,6 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
@@ -63,6 +68,28 @@ public class CalendarMonthTest {
         assertEquals(calendarEvents, calendarMonth.getCalendarEventInDayOfMonth(1, 4, 2023));
     }
 
+    @Test
+    public void method_getCalendarEventInInvalidDayOfMonth_returnsEmptyList() {
+        CalendarMonth calendarMonth = new CalendarMonthBuilder().build();
+        assertTrue(calendarMonth.getCalendarEventInDayOfMonth(31, 4, 2023).isEmpty());
+        assertTrue(calendarMonth.getCalendarEventInDayOfMonth(1, 13, 2023).isEmpty());
+    }
+
+    @Test
+    public void method_getCalendarEventsInMonth_onlyDaysWithEventsInMonth() {
+        CalendarEvent firstEvent = new CalendarEvent(AMY, firstAppointment);
+        CalendarEvent secondEvent = new CalendarEvent(BOB, firstAppointment);
+        CalendarEvent thirdEvent = new CalendarEvent(AMY, secondAppointment);
+        CalendarMonth calendarMonth = new CalendarMonth(FXCollections.observableArrayList(firstEvent, thirdEvent,
+                secondEvent));
+
+        Map<LocalDate, List<CalendarEvent>> calendarEventsInMonth = calendarMonth
+                .getCalendarEventsInMonth(YearMonth.of(2023, 4));
+        assertEquals(Map.of(LocalDate.of(2023, 4, 1), List.of(firstEvent, secondEvent)), calendarEventsInMonth);
+        assertTrue(calendarMonth.getCalendarEventsInMonth(YearMonth.of(2023, 6)).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> calendarEventsInMonth.clear());
+    }
+
     @Test
     public void constructor_nameNull_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new CalendarMonth(null));
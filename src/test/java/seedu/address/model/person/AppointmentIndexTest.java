@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentIndex;
+import seedu.address.model.appointment.DateTime;
+import seedu.address.model.util.exceptions.SortedListException;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AppointmentIndexTest {
+    private static final Appointment FIRST_APPOINTMENT = new AppointmentBuilder()
+            .withDateTime("01-01-2023 09:00").build();
+    private static final Appointment SECOND_APPOINTMENT = new AppointmentBuilder()
+            .withDateTime("02-01-2023 09:00").build();
+    private static final Appointment THIRD_APPOINTMENT = new AppointmentBuilder()
+            .withDateTime("03-01-2023 09:00").build();
+
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+
+    @Test
+    public void contains_nullDateTime_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> appointmentIndex.contains(null));
+    }
+
+    @Test
+    public void track_personWithAppointments_indexesAppointments() {
+        Person alice = new PersonBuilder().withAppointment(FIRST_APPOINTMENT).build();
+        appointmentIndex.track(alice);
+        assertTrue(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+        assertEquals(Collections.singletonList(alice), appointmentIndex.getOwners(FIRST_APPOINTMENT.getDateTime()));
+        assertFalse(appointmentIndex.contains(SECOND_APPOINTMENT.getDateTime()));
+    }
+
+    @Test
+    public void update_appointmentsChangedInPlace_indexUpdated() throws SortedListException {
+        Person alice = new PersonBuilder().build();
+        appointmentIndex.track(alice);
+
+        alice.getAppointments().add(FIRST_APPOINTMENT);
+        assertFalse(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+        appointmentIndex.update(alice);
+        assertTrue(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+
+        // the date times the person was indexed under are removed, even though the appointment is already gone
+        alice.getAppointments().remove(FIRST_APPOINTMENT);
+        appointmentIndex.update(alice);
+        assertFalse(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+        appointmentIndex.untrack(alice);
+        assertTrue(appointmentIndex.getOwnersBetween(FIRST_APPOINTMENT.getDateTime(),
+                THIRD_APPOINTMENT.getDateTime()).isEmpty());
+    }
+
+    @Test
+    public void update_untrackedPerson_notIndexed() {
+        Person alice = new PersonBuilder().withAppointment(FIRST_APPOINTMENT).build();
+        appointmentIndex.update(alice);
+        assertFalse(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+    }
+
+    @Test
+    public void untrack_trackedPerson_appointmentsRemoved() {
+        Person alice = new PersonBuilder().withAppointment(FIRST_APPOINTMENT).build();
+        appointmentIndex.track(alice);
+        appointmentIndex.untrack(alice);
+        assertFalse(appointmentIndex.contains(FIRST_APPOINTMENT.getDateTime()));
+    }
+
+    @Test
+    public void getOwnersBetween_multiplePersons_returnsOwnersInDateTimeOrder() {
+        Person alice = new PersonBuilder().withAppointment(THIRD_APPOINTMENT).build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withAppointment(FIRST_APPOINTMENT).build();
+        bob.getAppointments().add(SECOND_APPOINTMENT);
+        appointmentIndex.track(alice);
+        appointmentIndex.track(bob);
+
+        DateTime start = FIRST_APPOINTMENT.getDateTime();
+        DateTime end = THIRD_APPOINTMENT.getDateTime();
+        assertEquals(Arrays.asList(bob, bob, alice), appointmentIndex.getOwnersBetween(start, end));
+        assertEquals(Collections.singletonList(bob),
+                appointmentIndex.getOwnersBetween(SECOND_APPOINTMENT.getDateTime(), SECOND_APPOINTMENT.getDateTime()));
+        assertTrue(appointmentIndex.getOwnersBetween(end, start).isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,5 +38,18 @@ public class IncomeLevelTest {
         assertTrue(Income.isValidIncome("231231")); // $ + numbers
         assertTrue(Income.isValidIncome("0")); // $ + numbers
         assertTrue(Income.isValidIncome("999")); // $ + numbers
+        assertTrue(Income.isValidIncome("999999999999999999")); // largest amount
+
+        // too large
+        assertFalse(Income.isValidIncome("1000000000000000000"));
+    }
+
+    @Test
+    public void constructor_long_sameAsString() {
+        assertEquals(new Income("1200"), new Income(1200));
+        assertEquals(1200, new Income("1200").value);
+        assertEquals("$1200", new Income(1200).toString());
+        assertThrows(IllegalArgumentException.class, () -> new Income(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Income(1_000_000_000_000_000_000L));
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,5 +38,18 @@ public class MonthlyTest {
         assertTrue(Monthly.isValidMonthly("231231")); // $ + numbers
         assertTrue(Monthly.isValidMonthly("0")); // $ + numbers
         assertTrue(Monthly.isValidMonthly("999")); // $ + numbers
+        assertTrue(Monthly.isValidMonthly("999999999999999999")); // largest amount
+
+        // too large
+        assertFalse(Monthly.isValidMonthly("1000000000000000000"));
+    }
+
+    @Test
+    public void constructor_long_sameAsString() {
+        assertEquals(new Monthly("1200"), new Monthly(1200));
+        assertEquals(1200, new Monthly("1200").value);
+        assertEquals("$1200", new Monthly(1200).toString());
+        assertThrows(IllegalArgumentException.class, () -> new Monthly(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Monthly(1_000_000_000_000_000_000L));
     }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +73,28 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void or_otherPredicate_matchesPersonsMatchedByEither() {
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Alice"))
+                .or(new PhoneContainsKeywordsPredicate(Collections.singletonList("12345")));
+
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withPhone("99999").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol").withPhone("12345").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol").withPhone("99999").build()));
+    }
+
+    @Test
+    public void usingIndex_sameResultsAsTest() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol Dan").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(alice);
+        persons.add(carol);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bOB", "Eve"));
+        Predicate<Person> indexedPredicate = predicate.usingIndex(persons.getIndexes());
+        assertTrue(predicate.test(alice) && indexedPredicate.test(alice));
+        assertFalse(predicate.test(carol) || indexedPredicate.test(carol));
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAmountIndexTest {
+    private static final Person POOR = new PersonBuilder().withName("Poor").withIncome("100").withMonthly("5")
+            .build();
+    private static final Person MIDDLE = new PersonBuilder().withName("Middle").withIncome("50000")
+            .withMonthly("300").build();
+    private static final Person OTHER_MIDDLE = new PersonBuilder().withName("Other Middle").withIncome("50000")
+            .withMonthly("250").build();
+    private static final Person RICH = new PersonBuilder().withName("Rich").withIncome("120000")
+            .withMonthly("1000").build();
+
+    @Test
+    public void estimateBetween_wholeBuckets_exactCounts() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(RICH, MIDDLE, POOR, OTHER_MIDDLE));
+        PersonAmountIndex index = persons.getIndexes().getIncomeIndex();
+
+        // 49152 starts the quarter of 32768..65535 that holds 50000, and 131071 ends the quarter that holds 120000
+        assertEquals(3, index.estimateBetween(49152, 131071));
+        assertEquals(1, index.estimateBetween(0, 49151));
+        assertEquals(4, index.estimateBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, index.estimateBetween(131072, Long.MAX_VALUE));
+        assertEquals(0, index.estimateBetween(2, 1));
+        assertEquals(0, index.estimateBetween(Long.MIN_VALUE, -1));
+    }
+
+    @Test
+    public void estimateBetween_syntheticPersons_closeToActualCount() {
+        List<Person> generated = new SyntheticDataUtil(SyntheticDataUtil.DEFAULT_SEED).getPersons(1000);
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(generated);
+        PersonAmountIndex index = persons.getIndexes().getIncomeIndex();
+
+        long[][] ranges = {{30000, 60000}, {0, 45000}, {75000, Long.MAX_VALUE}, {52000, 53000}};
+        for (long[] range : ranges) {
+            long actual = generated.stream().map(person -> person.getIncome().value)
+                    .filter(income -> range[0] <= income && income <= range[1]).count();
+            assertTrue(Math.abs(index.estimateBetween(range[0], range[1]) - actual) <= generated.size() / 50,
+                    Arrays.toString(range));
+        }
+    }
+
+    @Test
+    public void addAndRemove_persons_indexUpdated() {
+        UniquePersonList persons = new UniquePersonList();
+        PersonAmountIndex index = persons.getIndexes().getMonthlyIndex();
+        persons.add(MIDDLE);
+        persons.add(POOR);
+        persons.add(RICH);
+        persons.add(OTHER_MIDDLE);
+        assertEquals(4, index.estimateBetween(0, 1023));
+
+        persons.remove(MIDDLE);
+        persons.setPerson(POOR, new PersonBuilder(POOR).withMonthly("2000").build());
+        assertEquals(2, index.estimateBetween(0, 1023));
+        assertEquals(1, index.estimateBetween(1024, 4095));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void usingIndex_syntheticPersons_sameResultsAsTest() {
+        List<Person> generated = new SyntheticDataUtil(SyntheticDataUtil.DEFAULT_SEED).getPersons(200);
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(generated.subList(0, 100));
+
+        List<FindPredicate> predicates = Arrays.asList(
+                new IncomeContainsKeywordsPredicate(Arrays.asList("50000", "80000"), ">"),
+                new IncomeContainsKeywordsPredicate(Arrays.asList("40000"), "<"),
+                new IncomeContainsKeywordsPredicate(Arrays.asList("30000..60000", "90000..100000"),
+                        FindPredicate.RANGE_SEPARATOR),
+                new MonthlyContainsKeywordsPredicate(Arrays.asList("300"), ">"),
+                new MonthlyContainsKeywordsPredicate(Arrays.asList("100..200"), FindPredicate.RANGE_SEPARATOR));
+        for (FindPredicate predicate : predicates) {
+            Predicate<Person> indexedPredicate = predicate.usingIndex(persons.getIndexes());
+            for (Person person : generated.subList(0, 100)) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person));
+            }
+            // persons added after the predicate was created are still found
+            generated.subList(100, 200).forEach(persons::add);
+            for (Person person : generated) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person));
+            }
+            generated.subList(100, 200).forEach(persons::remove);
+        }
+    }
+
+    @Test
+    public void usingIndex_amountPredicates_testedDirectly() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(POOR);
+        FindPredicate incomePredicate = new IncomeContainsKeywordsPredicate(Arrays.asList("0"), ">");
+        FindPredicate monthlyPredicate = new MonthlyContainsKeywordsPredicate(Arrays.asList("0"), ">");
+
+        // no set of the matching persons is built, which would have to be rebuilt after every change
+        assertSame(incomePredicate, incomePredicate.usingIndex(persons.getIndexes()));
+        assertSame(monthlyPredicate, monthlyPredicate.usingIndex(persons.getIndexes()));
+        assertTrue(incomePredicate.isCheapToTest());
+        assertEquals(1, incomePredicate.estimateMatches(persons.getIndexes()));
+    }
+
+    @Test
+    public void test_unknownPredicate_matchesNothing() {
+        IncomeContainsKeywordsPredicate predicate = new IncomeContainsKeywordsPredicate(Arrays.asList("0"), "!");
+        assertFalse(predicate.test(POOR));
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(POOR);
+        assertFalse(predicate.usingIndex(persons.getIndexes()).test(POOR));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBitmapIndexTest {
+    private static final List<FindPredicate> PREDICATES = Arrays.asList(
+            new RiskTagContainsKeywordsPredicate(Arrays.asList("HIGH")),
+            new ClientTagContainsKeywordsPredicate(Arrays.asList("POTENTIAL")),
+            new PlanTagContainsKeywordsPredicate(Arrays.asList("Savings Plan")));
+
+    @Test
+    public void getPositionsWithAny_tagNamesIgnoringCase_positionsOfMatchingPersons() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new PersonBuilder().withName("First").withRiskTag("HIGH").withClientTag("CURRENT").build());
+        persons.add(new PersonBuilder().withName("Second").withRiskTag("LOW").withClientTag("POTENTIAL").build());
+        persons.add(new PersonBuilder().withName("Third").withRiskTag("LOW").withClientTag("CURRENT").build());
+        PersonBitmapIndex index = persons.getIndexes().getBitmapIndex();
+
+        assertEquals(bits(0), index.getPositionsWithAny(Arrays.asList("high")));
+        assertEquals(bits(0, 1), index.getPositionsWithAny(Arrays.asList("HIGH", "POTENTIAL", "EXTREME")));
+        assertEquals(bits(), index.getPositionsWithAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void usingIndexes_listModified_sameResultsAsTest() {
+        List<Person> generated = new SyntheticDataUtil(SyntheticDataUtil.DEFAULT_SEED).getPersons(60);
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(generated.subList(0, 40));
+        List<Predicate<Person>> indexedPredicates = persons.getIndexes().usingIndexes(PREDICATES);
+        assertEquals(1, indexedPredicates.size());
+        Predicate<Person> indexedPredicate = indexedPredicates.get(0);
+        assertSameResults(persons, indexedPredicate);
+
+        // added at the end, and replaced in place
+        generated.subList(40, 50).forEach(persons::add);
+        persons.setPerson(generated.get(3), generated.get(50));
+        assertSameResults(persons, indexedPredicate);
+
+        // removed from the end, then from the middle
+        persons.remove(generated.get(49));
+        assertSameResults(persons, indexedPredicate);
+        persons.remove(generated.get(5));
+        persons.add(generated.get(51));
+        assertSameResults(persons, indexedPredicate);
+
+        persons.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        assertSameResults(persons, indexedPredicate);
+        assertFalse(indexedPredicate.test(generated.get(3)));
+    }
+
+    @Test
+    public void usingIndexes_otherPredicates_keptSeparately() {
+        UniquePersonList persons = new UniquePersonList();
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        Predicate<Person> plainPredicate = person -> true;
+
+        List<Predicate<Person>> indexedPredicates =
+                persons.getIndexes().usingIndexes(Arrays.asList(namePredicate, plainPredicate, PREDICATES.get(0)));
+        assertEquals(3, indexedPredicates.size());
+        assertTrue(indexedPredicates.contains(plainPredicate));
+    }
+
+    private static void assertSameResults(UniquePersonList persons, Predicate<Person> indexedPredicate) {
+        List<Person> personList = persons.asUnmodifiableObservableList();
+        // in list order, and in reverse order so that positions are not guessed right
+        for (int i = 0; i < 2 * personList.size(); i++) {
+            Person person = personList.get(i < personList.size() ? i : 2 * personList.size() - i - 1);
+            boolean expected = PREDICATES.stream().anyMatch(predicate -> predicate.test(person));
+            assertEquals(expected, indexedPredicate.test(person));
+        }
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        Arrays.stream(positions).forEach(bits::set);
+        return bits;
+    }
+}
@@ -35,6 +35,13 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_nullSpecialTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Person(ALICE.getName(), ALICE.getPhone(),
+                ALICE.getEmail(), ALICE.getAddress(), ALICE.getIncome(), ALICE.getMonthly(), ALICE.getRiskTag(),
+                ALICE.getPlanTag(), null, ALICE.getTags(), ALICE.getAppointments()));
+    }
+
     @Test
     public void method_getCalendarEventsEmpty_success() {
         List<CalendarEvent> eventList = new ArrayList<>();
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    @Test
+    public void hasNameToken_nullArguments_throwsNullPointerException() {
+        PersonTokenIndex index = new UniquePersonList().getIndexes().getTokenIndex();
+        assertThrows(NullPointerException.class, () -> index.hasNameToken(null, "Alice"));
+        assertThrows(NullPointerException.class, () -> index.hasNameToken(ALICE, null));
+    }
+
+    @Test
+    public void add_person_nameWordsAndTagsIndexedIgnoringCase() {
+        UniquePersonList persons = new UniquePersonList();
+        Person alice = new PersonBuilder().withName("Alice  Pauline").withTags("friends").build();
+        persons.add(alice);
+        PersonTokenIndex index = persons.getIndexes().getTokenIndex();
+
+        assertTrue(index.hasNameToken(alice, "alice"));
+        assertTrue(index.hasNameToken(alice, "PAULINE"));
+        assertFalse(index.hasNameToken(alice, "Ali"));
+        assertTrue(index.hasTag(alice, "FRIENDS"));
+        assertFalse(index.hasTag(alice, "friend"));
+        assertEquals(Collections.singleton(alice), index.getPersonsWithNameToken("Alice"));
+    }
+
+    @Test
+    public void setPerson_equalCopyAsTarget_oldTokensRemoved() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+
+        persons.setPerson(new PersonBuilder(ALICE).build(), editedAlice);
+        PersonTokenIndex index = persons.getIndexes().getTokenIndex();
+        assertFalse(index.hasTag(ALICE, "friends"));
+        assertTrue(index.hasTag(editedAlice, "colleagues"));
+        assertEquals(Collections.singleton(editedAlice), index.getPersonsWithNameToken("Alice"));
+    }
+
+    @Test
+    public void remove_person_tokensRemoved() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON);
+
+        PersonTokenIndex index = persons.getIndexes().getTokenIndex();
+
+        persons.remove(ALICE);
+        assertTrue(index.getPersonsWithNameToken("Alice").isEmpty());
+
+        persons.setPersons(Arrays.asList(ALICE));
+        assertTrue(index.getPersonsWithNameToken("Benson").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE)), index.getPersonsWithNameToken("alice"));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RiskTagContainsKeywordsPredicateTest {
+
+    @Test
+    public void test_riskTagMatchesAnyKeyword_returnsTrue() {
+        RiskTagContainsKeywordsPredicate predicate = new RiskTagContainsKeywordsPredicate(Arrays.asList("high", "LOW"));
+        assertTrue(predicate.test(new PersonBuilder().withRiskTag("HIGH").build()));
+        assertTrue(predicate.test(new PersonBuilder().withRiskTag("LOW").build()));
+        assertFalse(predicate.test(new PersonBuilder().withRiskTag("MEDIUM").build()));
+    }
+
+    @Test
+    public void test_otherTagNames_returnsFalse() {
+        RiskTagContainsKeywordsPredicate predicate =
+                new RiskTagContainsKeywordsPredicate(Arrays.asList("CURRENT", "friends"));
+        assertFalse(predicate.test(new PersonBuilder().withRiskTag("HIGH").withClientTag("CURRENT").build()));
+        assertFalse(new RiskTagContainsKeywordsPredicate(Collections.emptyList()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void test_clientTagMatchesAnyKeyword_returnsTrue() {
+        ClientTagContainsKeywordsPredicate predicate =
+                new ClientTagContainsKeywordsPredicate(Collections.singletonList("potential"));
+        assertTrue(predicate.test(new PersonBuilder().withClientTag("POTENTIAL").build()));
+        assertFalse(predicate.test(new PersonBuilder().withClientTag("CURRENT").build()));
+    }
+}
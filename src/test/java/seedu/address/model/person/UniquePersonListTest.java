@@ -11,6 +11,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -18,6 +19,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.sort.SortByName;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -74,6 +76,51 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
+    @Test
+    public void indexOf_afterSortAndRemove_returnsCurrentPosition() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        assertEquals(1, uniquePersonList.indexOf(ALICE));
+
+        uniquePersonList.sortPersons(new SortByName("asc"));
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void indexOf_sortThenRemoveWithoutLookup_returnsCurrentPosition() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+
+        // no lookup between the sort and the removals, so the positions are still stale from the sort
+        uniquePersonList.sortPersons(new SortByName("asc"));
+        uniquePersonList.remove(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -146,6 +193,14 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -189,6 +244,39 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(BOB, ALICE, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getModificationCount_listOrAppointmentsChanged_countIncreases() {
+        Person amy = new PersonBuilder().build();
+        long initialCount = uniquePersonList.getModificationCount();
+        uniquePersonList.add(amy);
+        long countAfterAdd = uniquePersonList.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        // queries do not modify the list
+        uniquePersonList.contains(amy);
+        uniquePersonList.indexOf(amy);
+        assertEquals(countAfterAdd, uniquePersonList.getModificationCount());
+
+        // appointments changed in place modify the list once reported
+        amy.getAppointments().add(new AppointmentBuilder().build());
+        uniquePersonList.updateAppointments(amy);
+        assertTrue(uniquePersonList.getModificationCount() > countAfterAdd);
+        assertTrue(uniquePersonList.containsPersonWithSameAppointmentDateTime(new AppointmentBuilder().build()));
+    }
+
+    @Test
+    public void updateAppointments_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.updateAppointments(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,93 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ClientTagContainsKeywordsPredicate;
+import seedu.address.model.person.IncomeContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NormalTagContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.RiskTagContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataUtil;
+
+public class QueryPlannerTest {
+    private static final FindQuery HIGH_RISK = FindQuery.of(
+            new RiskTagContainsKeywordsPredicate(Arrays.asList("HIGH")), "r/high");
+    private static final FindQuery POTENTIAL = FindQuery.of(
+            new ClientTagContainsKeywordsPredicate(Arrays.asList("POTENTIAL")), "c/potential");
+    private static final FindQuery VIP = FindQuery.of(
+            new NormalTagContainsKeywordsPredicate(Arrays.asList("vip")), "t/vip");
+    private static final FindQuery NAMED_TAN = FindQuery.of(
+            new NameContainsKeywordsPredicate(Arrays.asList("Tan")), "n/tan");
+    private static final FindQuery HIGH_INCOME = FindQuery.of(
+            new IncomeContainsKeywordsPredicate(Arrays.asList("100000"), ">"), "i/>100000");
+    private static final FindQuery PHONE = FindQuery.of(
+            new PhoneContainsKeywordsPredicate(Arrays.asList("91234567")), "p/91234567");
+
+    private final AddressBook addressBook = SyntheticDataUtil.getAddressBook(500, SyntheticDataUtil.DEFAULT_SEED);
+
+    @Test
+    public void plan_variousQueries_sameResultsAsQuery() {
+        List<FindQuery> queries = Arrays.asList(
+                HIGH_RISK,
+                FindQuery.not(VIP),
+                FindQuery.allOf(Arrays.asList(HIGH_RISK, POTENTIAL)),
+                FindQuery.anyOf(Arrays.asList(HIGH_RISK, POTENTIAL, NAMED_TAN)),
+                FindQuery.allOf(Arrays.asList(HIGH_RISK, FindQuery.anyOf(Arrays.asList(POTENTIAL, HIGH_INCOME)),
+                        FindQuery.not(VIP))),
+                FindQuery.anyOf(Arrays.asList(FindQuery.allOf(Arrays.asList(NAMED_TAN, PHONE)),
+                        FindQuery.not(FindQuery.allOf(Arrays.asList(POTENTIAL, HIGH_INCOME))))),
+                FindQuery.anyOf(Arrays.asList()));
+        for (FindQuery query : queries) {
+            Predicate<Person> plannedPredicate = QueryPlanner.plan(query, addressBook.getPersonIndexes())
+                    .getPredicate();
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(query.test(person), plannedPredicate.test(person), query.toString());
+            }
+        }
+    }
+
+    @Test
+    public void plan_specialTagCriteria_mergedIntoExactBitmapLookup() {
+        FindQuery query = FindQuery.allOf(Arrays.asList(HIGH_RISK, POTENTIAL));
+        QueryPlan plan = QueryPlanner.plan(query, addressBook.getPersonIndexes());
+
+        assertTrue(plan.explain().startsWith("bitmap r/high AND c/potential"));
+        assertEquals(addressBook.getPersonList().stream().filter(query).count(), plan.getEstimatedMatches());
+    }
+
+    @Test
+    public void plan_allOf_cheapSelectiveStepsFirst() {
+        // the phone has no index, so it is tested last even though it matches fewer persons
+        QueryPlan plan = QueryPlanner.plan(FindQuery.allOf(Arrays.asList(PHONE, VIP, HIGH_RISK)),
+                addressBook.getPersonIndexes());
+        String[] lines = plan.explain().split("\n");
+
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("AND"));
+        assertTrue(lines[1].startsWith("  bitmap r/high"));
+        assertTrue(lines[2].startsWith("  index t/vip"));
+        assertTrue(lines[3].startsWith("  scan p/91234567"));
+    }
+
+    @Test
+    public void plan_anyOf_stepsMostLikelyToMatchFirst() {
+        QueryPlan plan = QueryPlanner.plan(FindQuery.anyOf(Arrays.asList(NAMED_TAN, FindQuery.not(VIP))),
+                addressBook.getPersonIndexes());
+        String[] lines = plan.explain().split("\n");
+
+        assertTrue(lines[0].startsWith("OR"));
+        assertTrue(lines[1].startsWith("  NOT"));
+        assertTrue(lines[2].startsWith("    index t/vip"));
+        assertTrue(lines[3].startsWith("  index n/tan"));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.model.tag.ClientTag.isClientTag;
 
 import org.junit.jupiter.api.Test;
@@ -27,4 +29,12 @@ public class ClientTagTest {
         ClientTag potentialClientTag = new ClientTag("POTENTIAL");
         assertEquals(2, potentialClientTag.getType());
     }
+
+    @Test
+    public void getClientType() {
+        assertEquals(ClientTag.Type.CURRENT, new ClientTag("CURRENT").getClientType());
+        assertEquals(new ClientTag("POTENTIAL"), new ClientTag("POTENTIAL"));
+        assertNotEquals(new ClientTag("POTENTIAL"), new ClientTag("CURRENT"));
+        assertFalse(ClientTag.isValidClientTagName("current"));
+    }
 }
@@ -1,7 +1,11 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.tag.RiskTag.isRiskTag;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +43,20 @@ public class RiskTagTest {
         RiskTag lowRiskTag = new RiskTag("LOW");
         assertEquals(1, lowRiskTag.getRisk());
     }
+
+    @Test
+    public void getRiskLevel() {
+        assertEquals(RiskTag.Risk.HIGH, new RiskTag("HIGH").getRiskLevel());
+        assertTrue(RiskTag.Risk.LOW.compareTo(RiskTag.Risk.MEDIUM) < 0);
+        assertEquals(new RiskTag("LOW"), new RiskTag("LOW"));
+        assertNotEquals(new RiskTag("LOW"), new RiskTag("HIGH"));
+    }
+
+    @Test
+    public void isValidRiskTagName() {
+        assertTrue(RiskTag.isValidRiskTagName("MEDIUM"));
+        assertFalse(RiskTag.isValidRiskTagName("medium"));
+        assertFalse(RiskTag.isValidRiskTagName("EXTRA HIGH"));
+        assertThrows(NullPointerException.class, () -> RiskTag.isValidRiskTagName(null));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+
+public class TagRegistryTest {
+
+    @AfterEach
+    public void tearDown() {
+        TagRegistry.clear();
+    }
+
+    @Test
+    public void getTag_sameName_sameInstance() throws Exception {
+        assertSame(TagRegistry.getRiskTag(RiskTag.HIGH), TagRegistry.getRiskTag("HIGH"));
+        assertSame(TagRegistry.getClientTag(ClientTag.CURRENT), ParserUtil.parseClientTag(" current "));
+        assertSame(TagRegistry.getPlanTag("Savings Plan"), ParserUtil.parsePlanTag("Savings Plan"));
+        assertSame(TagRegistry.getNormalTag("friends"), ParserUtil.parseTag("friends"));
+    }
+
+    @Test
+    public void getTag_sameNameDifferentType_differentInstances() {
+        assertEquals(RiskTag.class, TagRegistry.getRiskTag("LOW").getClass());
+        assertEquals(NormalTag.class, TagRegistry.getNormalTag("LOW").getClass());
+    }
+
+    @Test
+    public void getTag_invalidName_throwsIllegalArgumentException() {
+        TagRegistry.clear();
+        assertThrows(IllegalArgumentException.class, () -> TagRegistry.getRiskTag("VERY HIGH"));
+        assertThrows(IllegalArgumentException.class, () -> TagRegistry.getNormalTag("two words"));
+        assertThrows(NullPointerException.class, () -> TagRegistry.getPlanTag(null));
+        assertEquals(0, TagRegistry.size());
+    }
+
+    @Test
+    public void clear_tagsInterned_tagsForgotten() {
+        NormalTag friends = TagRegistry.getNormalTag("friends");
+        TagRegistry.clear();
+
+        assertEquals(0, TagRegistry.size());
+        NormalTag newFriends = TagRegistry.getNormalTag("friends");
+        assertNotSame(friends, newFriends);
+        assertEquals(friends, newFriends);
+        assertEquals(1, TagRegistry.size());
+    }
+
+    @Test
+    public void tagSet_of_distinctTagsInNameOrder() {
+        NormalTag friends = TagRegistry.getNormalTag("friends");
+        NormalTag colleagues = TagRegistry.getNormalTag("colleagues");
+        Set<NormalTag> tags = TagSet.of(Arrays.asList(friends, colleagues, new NormalTag("friends")));
+
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new NormalTag("colleagues")));
+        assertFalse(tags.contains(TagRegistry.getNormalTag("family")));
+        assertEquals(new HashSet<>(Arrays.asList(colleagues, friends)), tags);
+        assertEquals(new HashSet<>(Arrays.asList(colleagues, friends)).hashCode(), tags.hashCode());
+        Iterator<NormalTag> iterator = tags.iterator();
+        assertSame(colleagues, iterator.next());
+        assertSame(friends, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(TagRegistry.getNormalTag("family")));
+    }
+}
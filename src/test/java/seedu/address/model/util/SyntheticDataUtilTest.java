@@ -0,0 +1,47 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataUtilTest {
+
+    @Test
+    public void getPersons_sameSeed_samePersons() {
+        List<Person> persons = new SyntheticDataUtil(7).getPersons(200);
+        List<Person> samePersons = new SyntheticDataUtil(7).getPersons(200);
+        assertEquals(persons, samePersons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).getAppointments(), samePersons.get(i).getAppointments());
+        }
+
+        assertNotEquals(persons, new SyntheticDataUtil(8).getPersons(200));
+    }
+
+    @Test
+    public void getPersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataUtil(7).getPersons(-1));
+    }
+
+    @Test
+    public void getAddressBook_largeBook_validPersons() {
+        // setPersons rejects duplicate persons
+        AddressBook addressBook = SyntheticDataUtil.getAddressBook(5000, SyntheticDataUtil.DEFAULT_SEED);
+        assertEquals(5000, addressBook.getPersonList().size());
+
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.getAppointments().size() <= Person.MAXIMUM_NUM_OF_APPOINTMENTS);
+            assertTrue(person.getTags().size() <= 5);
+        }
+        assertTrue(addressBook.getPersonList().stream().anyMatch(person -> person.getAppointments().size()
+                == Person.MAXIMUM_NUM_OF_APPOINTMENTS));
+    }
+}
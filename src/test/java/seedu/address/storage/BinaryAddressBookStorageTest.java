@@ -0,0 +1,289 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "FAP.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "FAP.json")));
+        assertEquals(Paths.get("data", "FAP.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "FAP")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().get(0).getAppointments(),
+                readBack.getPersonList().get(0).getAppointments());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_jsonAddressBook_roundTripLossless() throws Exception {
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(TYPICAL_PERSONS_FILE).readAddressBook().get();
+        BinaryAddressBookStorage storage = createStorage();
+
+        storage.saveAddressBook(fromJson);
+        ReadOnlyAddressBook fromBinary = storage.readAddressBook().get();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(fromJson)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(fromBinary)));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_smallerThanJson() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path jsonFile = testFolder.resolve("Temp.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(jsonFile) / 2);
+    }
+
+    @Test
+    public void readAddressBook_noBinaryFile_readsJsonFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFile = testFolder.resolve("Temp.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFile), jsonFile);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonSavedLast_readsJsonFile() throws Exception {
+        Path jsonFile = testFolder.resolve("Temp.json");
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFile), jsonFile);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // saved in the json format after switching away from the binary one
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFile);
+        BinaryAddressBookStorage.exportToJsonIfNewer(jsonStorage);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        jsonStorage.saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonModifiedAfterSnapshot_readsSnapshot() throws Exception {
+        Path jsonFile = testFolder.resolve("Temp.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFile), jsonFile);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        assertEquals("BINARY", Files.readString(BinaryAddressBookStorage.getFormatFilePath(jsonFile)));
+
+        // which file was saved last is not told from modification times, which may be coarse or change on copies
+        Files.setLastModifiedTime(jsonFile, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(BinaryAddressBookStorage.exportToJsonIfNewer(new JsonAddressBookStorage(jsonFile)));
+        assertEquals("JSON", Files.readString(BinaryAddressBookStorage.getFormatFilePath(jsonFile)));
+    }
+
+    @Test
+    public void exportToJsonIfNewer_savedAsBinaryThenSwitchedToJson_dataKept() throws Exception {
+        Path jsonFile = testFolder.resolve("Temp.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+
+        // saved in the binary format, which leaves the json file as it was
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFile), jsonFile);
+        AddressBook edited = new AddressBook(binaryStorage.readAddressBook().get());
+        edited.addPerson(HOON);
+        binaryStorage.saveAddressBook(edited);
+
+        // switched back to the json format
+        JournalAddressBookStorage jsonStorage = new JournalAddressBookStorage(jsonFile);
+        assertTrue(BinaryAddressBookStorage.exportToJsonIfNewer(jsonStorage));
+        assertEquals(edited, new AddressBook(jsonStorage.readAddressBook().get()));
+        assertEquals(edited, new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+
+        // the json file is now the one saved last
+        assertFalse(BinaryAddressBookStorage.exportToJsonIfNewer(jsonStorage));
+        assertEquals(edited, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // switched to the binary format again
+        edited.removePerson(HOON);
+        binaryStorage.saveAddressBook(edited);
+        assertTrue(BinaryAddressBookStorage.exportToJsonIfNewer(jsonStorage));
+        assertEquals(edited, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void exportToJsonIfNewer_noSnapshot_nothingWritten() throws Exception {
+        Path jsonFile = testFolder.resolve("Temp.json");
+        assertFalse(BinaryAddressBookStorage.exportToJsonIfNewer(new JsonAddressBookStorage(jsonFile)));
+        assertFalse(Files.exists(jsonFile));
+    }
+
+    @Test
+    public void readAddressBook_snapshot_wholeFileTouched() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.readAddressBook();
+        assertEquals(Files.size(storage.getAddressBookFilePath()), storage.getLastBytesTouched());
+        assertTrue(storage.getLastLoadNanos() > 0);
+    }
+
+    @Test
+    public void readAddressBook_jsonInPlaceOfSnapshot_readsAsJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = createStorage();
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook(TYPICAL_PERSONS_FILE).get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+        assertFalse(createStorage().readAddressBook(testFolder.resolve("Other.bin")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_neitherSnapshotNorJson_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.write(storage.getAddressBookFilePath(), "not an address book".getBytes());
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.write(storage.getAddressBookFilePath(), new byte[] {'F', 'A', 'P', 'B', 99, 0, 0});
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(snapshot, snapshot.length - 3));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_versionOneSnapshot_amountsReadFromStringTable() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.write(storage.getAddressBookFilePath(), buildSnapshot(1, 0));
+        AddressBook expected = new AddressBook();
+        expected.addPerson(new PersonBuilder().build());
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_duplicateAppointments_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.write(storage.getAddressBookFilePath(), buildSnapshot(BinarySerializableAddressBook.VERSION, 1));
+        AddressBook expected = new AddressBook();
+        expected.addPerson(new PersonBuilder().withAppointment(new AppointmentBuilder().build()).build());
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+
+        Files.write(storage.getAddressBookFilePath(), buildSnapshot(BinarySerializableAddressBook.VERSION, 2));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    /**
+     * Returns a snapshot of {@code version} built by hand, of a person with the default fields of
+     * {@code PersonBuilder} and {@code appointmentCount} copies of the default appointment
+     * of {@code AppointmentBuilder}.
+     */
+    private static byte[] buildSnapshot(int version, int appointmentCount) {
+        List<String> strings = Arrays.asList(PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE,
+                PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, PersonBuilder.DEFAULT_INCOME,
+                PersonBuilder.DEFAULT_MONTHLY, PersonBuilder.DEFAULT_RISKTAG, PersonBuilder.DEFAULT_PLANTAG,
+                PersonBuilder.DEFAULT_CLIENTTAG, AppointmentBuilder.DEFAULT_LOCATION);
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        snapshot.writeBytes(new byte[] {'F', 'A', 'P', 'B'});
+        writeVarLong(snapshot, version);
+        writeVarLong(snapshot, strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(snapshot, bytes.length);
+            snapshot.writeBytes(bytes);
+        }
+
+        writeVarLong(snapshot, 1);
+        for (int field = 0; field < 9; field++) {
+            boolean isAmount = field == 4 || field == 5;
+            writeVarLong(snapshot, isAmount && version > 1 ? Long.parseLong(strings.get(field)) : field);
+        }
+        writeVarLong(snapshot, 0);
+        writeVarLong(snapshot, appointmentCount);
+        long epochMinute = new AppointmentBuilder().build().getDateTime().getLocalDateTime()
+                .toEpochSecond(ZoneOffset.UTC) / 60;
+        for (int i = 0; i < appointmentCount; i++) {
+            writeVarLong(snapshot, epochMinute << 1);
+            writeVarLong(snapshot, strings.size() - 1);
+        }
+        return snapshot.toByteArray();
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while (remaining >= 0x80) {
+            out.write((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(testFolder.resolve("Temp.bin"), testFolder.resolve("Temp.json"));
+    }
+}
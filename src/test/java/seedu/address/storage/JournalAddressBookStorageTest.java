@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.parser.sort.SortByName;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = Files.readString(filePath);
+
+        // Add, edit and delete are each journalled without touching the snapshot
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, countRecords(journalFilePath));
+
+        // Saving unchanged data writes nothing
+        storage.saveAddressBook(original);
+        assertEquals(3, countRecords(journalFilePath));
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_appointmentChangedInPlace_journalled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Person amy = new PersonBuilder().build();
+        Person hoon = new PersonBuilder(HOON).build();
+        AddressBook original = new AddressBook();
+        original.addPerson(amy);
+        original.addPerson(hoon);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        amy.getAppointments().add(new AppointmentBuilder().build());
+        storage.saveAddressBook(original);
+        assertEquals(1, countRecords(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        AddressBook readBack = new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(1, readBack.getPersonList().get(0).getAppointments().size());
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(IDA);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.sortPersons(new SortByName("desc"));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, countRecords(journalFilePath));
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalReplayed_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+
+        original.addPerson(IDA);
+        assertEquals(2, countRecords(journalFilePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteFinalRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalFilePath, "{\"deleted\":[\"Al".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_malformedRecordBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(journalFilePath, ("not a record" + System.lineSeparator() + "{}").getBytes(UTF_8));
+        assertThrows(DataConversionException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBehindByCompaction_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // Compaction wrote the new snapshot but was cut short before deleting the journal
+        original.removePerson(HOON);
+        original.sortPersons(new SortByName("desc"));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        Files.write(journalFilePath, journal);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The next save replaces the journal left behind instead of appending to it
+        readBack.removePerson(ALICE);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static long countRecords(Path journalFilePath) throws Exception {
+        return Files.readAllLines(journalFilePath).stream()
+                .filter(line -> !line.startsWith(JournalAddressBookStorage.JOURNAL_HEADER_PREFIX))
+                .count();
+    }
+}
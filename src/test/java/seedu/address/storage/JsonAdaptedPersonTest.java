@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_RISKTAG_HIGH;
+import static seedu.address.storage.JsonAdaptedPerson.MESSAGE_INVALID_APPOINTMENTS;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -18,10 +19,12 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Income;
 import seedu.address.model.person.Monthly;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.PlanTag;
 import seedu.address.model.tag.RiskTag;
+import seedu.address.testutil.AppointmentBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -226,4 +229,27 @@ public class JsonAdaptedPersonTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ClientTag.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicateAppointments_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(new AppointmentBuilder().build());
+        List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+        appointments.add(appointment);
+        appointments.add(appointment);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_INCOME, VALID_MONTHLY, VALID_RISKTAG, VALID_PLANTAG, VALID_CLIENTTAG, VALID_TAGS, appointments);
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_APPOINTMENTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_tooManyAppointments_throwsIllegalValueException() {
+        List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+        for (int day = 1; day <= Person.MAXIMUM_NUM_OF_APPOINTMENTS + 1; day++) {
+            appointments.add(new JsonAdaptedAppointment(new AppointmentBuilder()
+                    .withDateTime(String.format("%02d-01-2023 09:00", day)).build()));
+        }
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_INCOME, VALID_MONTHLY, VALID_RISKTAG, VALID_PLANTAG, VALID_CLIENTTAG, VALID_TAGS, appointments);
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_APPOINTMENTS, person::toModelType);
+    }
 }
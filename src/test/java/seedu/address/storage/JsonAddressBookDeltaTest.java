@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookDeltaTest {
+
+    @Test
+    public void applyTo_deletionsUpdatesAndInsertions_appliedInOrder() throws Exception {
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        Person editedElle = new PersonBuilder(ELLE).withPhone("97654321").build();
+        JsonAddressBookDelta delta = new JsonAddressBookDelta();
+        delta.addDeleted(BENSON);
+        delta.addUpdated(editedCarl);
+        delta.addInserted(0, FIONA);
+        delta.addInserted(2, GEORGE);
+        delta.addInserted(3, editedElle);
+        delta.addInserted(10, DANIEL);
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, ELLE));
+
+        delta.applyTo(persons);
+        List<Person> expectedPersons = Arrays.asList(FIONA, ALICE, GEORGE, editedCarl, editedElle, DANIEL);
+        assertEquals(expectedPersons, persons);
+
+        // re-applying the delta changes nothing
+        delta.applyTo(persons);
+        assertEquals(expectedPersons, persons);
+    }
+}
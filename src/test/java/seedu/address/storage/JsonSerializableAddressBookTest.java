@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +26,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +53,85 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelTypeFromParser_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.toModelType(parser, true);
+            assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void toModelTypeFromParser_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.toModelType(parser, true));
+        }
+    }
+
+    @Test
+    public void toModelTypeFromParser_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, String.format(
+                    JsonSerializableAddressBook.MESSAGE_ILLEGAL_PERSON_FORMAT, 2,
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () ->
+                    JsonSerializableAddressBook.toModelType(parser, false));
+        }
+    }
+
+    @Test
+    public void toModelTypeFromParser_manyPersonsInParallel_sameAsSequential() throws Exception {
+        Path file = testFolder.resolve("manyPersons.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                createPersons(JsonSerializableAddressBook.CONVERSION_BATCH_SIZE * 2 + 1, -1)), file);
+
+        AddressBook sequential;
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            sequential = JsonSerializableAddressBook.toModelType(parser, false);
+        }
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            assertEquals(sequential, JsonSerializableAddressBook.toModelType(parser, true));
+        }
+    }
+
+    @Test
+    public void toModelTypeFromParser_invalidPersonInLaterBatch_reportsFirstInvalidPosition() throws Exception {
+        Path file = testFolder.resolve("invalidPersons.json");
+        int firstInvalidPosition = JsonSerializableAddressBook.CONVERSION_BATCH_SIZE + 10;
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                createPersons(JsonSerializableAddressBook.CONVERSION_BATCH_SIZE * 2, firstInvalidPosition)), file);
+
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_ILLEGAL_PERSON_FORMAT,
+                firstInvalidPosition, Email.MESSAGE_CONSTRAINTS);
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.toModelType(parser, true));
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct adapted persons. Every person from the 1-based {@code firstInvalidPosition}
+     * onwards has an invalid email; a negative {@code firstInvalidPosition} makes every person valid.
+     */
+    private static List<JsonAdaptedPerson> createPersons(int count, int firstInvalidPosition) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int position = 1; position <= count; position++) {
+            boolean isInvalid = firstInvalidPosition > 0 && position >= firstInvalidPosition;
+            persons.add(new JsonAdaptedPerson("Person " + toLetters(position), "91234567",
+                    isInvalid ? "invalid@email!3e" : "person" + position + "@example.com", "4th street",
+                    "1000", "100", "LOW", "Savings Plan", "CURRENT", null, null));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a distinct alphabetic string for each positive {@code number}.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        for (int remaining = number; remaining > 0; remaining /= 26) {
+            letters.append((char) ('a' + remaining % 26));
+        }
+        return letters.toString();
+    }
+
 }
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class WriteBehindAddressBookStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_flushed_writtenToFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Reading waits for pending saves
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_appointmentsChangedAfterSave_snapshotUnaffected() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(testFolder.resolve("Temp.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+        Person amy = new PersonBuilder().build();
+        AddressBook original = new AddressBook();
+        original.addPerson(amy);
+
+        storage.saveAddressBook(original);
+        amy.getAppointments().add(new AppointmentBuilder().build());
+        blockingStorage.release();
+        storage.flushAddressBook();
+
+        ReadOnlyAddressBook saved = blockingStorage.readAddressBook().get();
+        assertTrue(saved.getPersonList().get(0).getAppointments().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_savesWhileWriting_coalesced() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(testFolder.resolve("Temp.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        blockingStorage.awaitFirstSave();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        blockingStorage.release();
+        storage.flushAddressBook();
+
+        assertEquals(1, storage.getCoalescedSaveCount());
+        assertEquals(2, blockingStorage.saveCount);
+        assertEquals(original, new AddressBook(blockingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_throwsIoException() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("ioExceptionAddressBook.json")));
+
+        // The failure is reported after the save returns
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushAddressBook);
+
+        // The failed save is retried, and fails again
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushAddressBook);
+    }
+
+    @Test
+    public void checkAddressBookSaved_writeFailed_throwsIoExceptionWithoutSaving() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("ioExceptionAddressBook.json")));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // The failure is reported once the write has failed, without another save
+        IOException failure = null;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (failure == null && System.currentTimeMillis() < deadline) {
+            try {
+                storage.checkAddressBookSaved();
+                Thread.sleep(10);
+            } catch (IOException ioe) {
+                failure = ioe;
+            }
+        }
+        assertEquals(DUMMY_IO_EXCEPTION, failure);
+
+        // The failed save is retried, and fails again
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushAddressBook);
+    }
+
+    /**
+     * A stub class that holds up the first save until released.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile int saveCount = 0;
+
+        private BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            firstSaveStarted.countDown();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+
+        private void awaitFirstSave() throws InterruptedException {
+            firstSaveStarted.await(10, TimeUnit.SECONDS);
+        }
+
+        private void release() {
+            released.countDown();
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}